@@ -28,7 +28,8 @@ class VoiceCommandService {
   }) async {
     final requestBody = <String, dynamic>{
       'text': text,
-      if (context != null) 'context': context.toJson(),
+      // 대화 컨텍스트는 서버에 저장되므로 conversationId만 전송
+      if (context != null) 'conversationId': context.conversationId,
       // userId는 JWT 토큰에서 자동 추출되므로 전송하지 않음
     };
 
@@ -0,0 +1,164 @@
+package com.vocacrm.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocacrm.api.dto.AiAnalysisResult;
+import com.vocacrm.api.util.AiResponseJsonExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 응답 JSON 추출 비용 비교 (JMH)
+ *
+ * - legacy: 이전 AiServerClient.extractJsonFromResponse (코드블록 정규식 → 마커 제거 → 중괄호 범위 → 정규식 후보
+ *   → 공백 정리 재시도, 단계마다 readTree로 유효성 검사 후 readValue로 다시 파싱)
+ * - singlePass: AiResponseJsonExtractor ('{' 위치에서 바로 AiAnalysisResult 바인딩)
+ *
+ * 응답 형태(shape):
+ * - PLAIN: JSON 객체만 있는 응답
+ * - CODE_BLOCK: ```json 코드블록
+ * - PROSE: 앞뒤 설명 텍스트가 붙은 응답
+ *
+ * 사용 예: ./gradlew jmhBenchmark -Pjmh=AiResponseJsonExtractorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AiResponseJsonExtractorBenchmark {
+
+    private static final String RESULT = "{\"category\":\"MEMO\",\"action\":\"GET_LATEST\","
+            + "\"parameters\":{\"searchCriteria\":{\"memberNumber\":\"1234\",\"name\":\"김철수\"}}}";
+
+    private static final Pattern JSON_PATTERN = Pattern.compile("\\{[^{}]*(?:\\{[^{}]*\\}[^{}]*)*\\}");
+    private static final Pattern CODE_BLOCK_PATTERN = Pattern.compile("```(?:json)?\\s*([\\s\\S]*?)```");
+
+    @Param({"PLAIN", "CODE_BLOCK", "PROSE"})
+    public String shape;
+
+    private ObjectMapper objectMapper;
+    private AiResponseJsonExtractor extractor;
+    private String response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        extractor = new AiResponseJsonExtractor(objectMapper);
+        response = switch (shape) {
+            case "PLAIN" -> RESULT;
+            case "CODE_BLOCK" -> "```json\n" + RESULT + "\n```";
+            case "PROSE" -> "Sure! Here is the analysis of the command:\n"
+                    + RESULT + "\nLet me know if you need anything else.";
+            default -> throw new IllegalArgumentException("Unknown shape: " + shape);
+        };
+
+        if (singlePass() == null || legacy() == null) {
+            throw new IllegalStateException("Extraction failed for shape " + shape);
+        }
+    }
+
+    @Benchmark
+    public AiAnalysisResult legacy() {
+        String json = legacyExtractJson(response);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, AiAnalysisResult.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public AiAnalysisResult singlePass() {
+        return extractor.extract(response);
+    }
+
+    /**
+     * 이전 AiServerClient.extractJsonFromResponse
+     */
+    private String legacyExtractJson(String response) {
+        String cleaned = response.trim();
+
+        Matcher codeBlockMatcher = CODE_BLOCK_PATTERN.matcher(cleaned);
+        if (codeBlockMatcher.find()) {
+            String extracted = codeBlockMatcher.group(1).trim();
+            if (isValidJson(extracted)) {
+                return extracted;
+            }
+        }
+
+        if (cleaned.startsWith("```json")) {
+            cleaned = cleaned.substring(7);
+        } else if (cleaned.startsWith("```")) {
+            cleaned = cleaned.substring(3);
+        }
+        if (cleaned.endsWith("```")) {
+            cleaned = cleaned.substring(0, cleaned.length() - 3);
+        }
+        cleaned = cleaned.trim();
+
+        if (cleaned.startsWith("{") && cleaned.endsWith("}")) {
+            if (isValidJson(cleaned)) {
+                return cleaned;
+            }
+        }
+
+        int firstBrace = cleaned.indexOf('{');
+        int lastBrace = cleaned.lastIndexOf('}');
+        if (firstBrace != -1 && lastBrace > firstBrace) {
+            String extracted = cleaned.substring(firstBrace, lastBrace + 1);
+            if (isValidJson(extracted)) {
+                return extracted;
+            }
+        }
+
+        Matcher jsonMatcher = JSON_PATTERN.matcher(cleaned);
+        while (jsonMatcher.find()) {
+            String candidate = jsonMatcher.group();
+            if (isValidJson(candidate) && candidate.contains("category")) {
+                return candidate;
+            }
+        }
+
+        String noNewlines = cleaned.replaceAll("\\s+", " ");
+        firstBrace = noNewlines.indexOf('{');
+        lastBrace = noNewlines.lastIndexOf('}');
+        if (firstBrace != -1 && lastBrace > firstBrace) {
+            String extracted = noNewlines.substring(firstBrace, lastBrace + 1);
+            if (isValidJson(extracted)) {
+                return extracted;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isValidJson(String str) {
+        if (str == null || str.trim().isEmpty()) {
+            return false;
+        }
+        try {
+            objectMapper.readTree(str);
+            return true;
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+}
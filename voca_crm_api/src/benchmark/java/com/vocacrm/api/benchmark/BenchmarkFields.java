@@ -0,0 +1,24 @@
+package com.vocacrm.api.benchmark;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+/**
+ * 스프링 컨텍스트 없이 컴포넌트를 생성할 때 @Value 필드 주입
+ */
+final class BenchmarkFields {
+
+    private BenchmarkFields() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    static void set(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + name);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
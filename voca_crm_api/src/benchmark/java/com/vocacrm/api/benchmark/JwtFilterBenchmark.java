@@ -0,0 +1,96 @@
+package com.vocacrm.api.benchmark;
+
+import com.vocacrm.api.dto.AuthPrincipal;
+import com.vocacrm.api.service.AuthPrincipalCache;
+import com.vocacrm.api.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 토큰 처리 비용 비교 (JMH)
+ *
+ * - legacy: 이전 필터 방식 (validateToken + extract 5회, 호출마다 서명 키/파서 생성 → 서명 검증 6회)
+ * - parseVerified: 서명 검증 1회
+ * - cached: AuthPrincipalCache 적중 (SHA-256 다이제스트 + 캐시 조회)
+ *
+ * 사용 예: ./gradlew jmhBenchmark -Pjmh=JwtFilterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hmac-sha256-0123456789";
+
+    private JwtUtil jwtUtil;
+    private AuthPrincipalCache principalCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkFields.set(jwtUtil, "secret", SECRET);
+        BenchmarkFields.set(jwtUtil, "accessTokenValidity", 3_600_000L);
+        BenchmarkFields.set(jwtUtil, "refreshTokenValidity", 1_209_600_000L);
+        jwtUtil.validateSecretKey();
+
+        token = jwtUtil.generateAccessToken("8c2f0d1e-5b7a-4c39-9f4e-2a6d3b1c7e90", "홍길동", "010-1234-5678",
+                "hong@example.com", "BP0001", false, "FREE");
+
+        principalCache = new AuthPrincipalCache(jwtUtil, new SimpleMeterRegistry());
+        BenchmarkFields.set(principalCache, "enabled", true);
+        BenchmarkFields.set(principalCache, "maxSize", 10_000L);
+        principalCache.init();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(!legacyClaims(token).getExpiration().before(new Date()));
+        blackhole.consume(legacyClaims(token).getSubject());
+        blackhole.consume(legacyClaims(token).get("username", String.class));
+        blackhole.consume(legacyClaims(token).get("email", String.class));
+        blackhole.consume(legacyClaims(token).get("defaultBusinessPlaceId", String.class));
+        blackhole.consume(legacyClaims(token).get("isSystemAdmin", Boolean.class));
+    }
+
+    @Benchmark
+    public AuthPrincipal parseVerified() {
+        return jwtUtil.parseVerified(token);
+    }
+
+    @Benchmark
+    public AuthPrincipal cached() {
+        return principalCache.resolve(token);
+    }
+
+    /**
+     * 이전 JwtUtil.extractAllClaims (호출마다 서명 키와 파서 생성)
+     */
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
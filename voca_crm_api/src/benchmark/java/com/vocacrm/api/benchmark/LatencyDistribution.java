@@ -0,0 +1,74 @@
+package com.vocacrm.api.benchmark;
+
+import java.util.Random;
+
+/**
+ * 스텁 응답 지연 분포
+ *
+ * 설정 형식:
+ * - fixed:200                          항상 200ms
+ * - uniform:100-400                    100~400ms 균등 분포
+ * - lognormal:300,0.5                  중앙값 300ms, sigma 0.5 로그정규 분포 (LLM 응답처럼 꼬리가 긴 분포)
+ */
+public final class LatencyDistribution {
+
+    private enum Type { FIXED, UNIFORM, LOGNORMAL }
+
+    private final Type type;
+    private final double first;
+    private final double second;
+
+    private LatencyDistribution(Type type, double first, double second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return new LatencyDistribution(Type.FIXED, 0, 0);
+        }
+
+        String[] parts = spec.trim().split(":", 2);
+        String kind = parts[0].toLowerCase();
+        String args = parts.length > 1 ? parts[1] : "";
+
+        try {
+            return switch (kind) {
+                case "fixed" -> new LatencyDistribution(Type.FIXED, Double.parseDouble(args), 0);
+                case "uniform" -> {
+                    String[] range = args.split("-");
+                    yield new LatencyDistribution(Type.UNIFORM, Double.parseDouble(range[0]), Double.parseDouble(range[1]));
+                }
+                case "lognormal" -> {
+                    String[] values = args.split(",");
+                    yield new LatencyDistribution(Type.LOGNORMAL, Double.parseDouble(values[0]), Double.parseDouble(values[1]));
+                }
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec, e);
+        }
+    }
+
+    /**
+     * 지연 시간 표본 (ms)
+     */
+    public long sampleMillis(Random random) {
+        double value = switch (type) {
+            case FIXED -> first;
+            case UNIFORM -> first + random.nextDouble() * (second - first);
+            case LOGNORMAL -> first * Math.exp(second * random.nextGaussian());
+        };
+        return Math.max(0, Math.round(value));
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case FIXED -> "fixed:" + (long) first;
+            case UNIFORM -> "uniform:" + (long) first + "-" + (long) second;
+            case LOGNORMAL -> "lognormal:" + (long) first + "," + second;
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package com.vocacrm.api.benchmark;
+
+import com.vocacrm.api.filter.RateLimitBucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RateLimitingFilter 버킷 처리량 비교 (JMH, 64 스레드 경합)
+ *
+ * - legacy*: 이전 방식 ("clientId:endpointType" 키 문자열 생성 + synchronized 버킷 + Instant.now() 3회)
+ * - cas*: 유형별 맵 + RateLimitBucket (AtomicLong CAS, System.nanoTime() 1회)
+ * - *HotKey: 모든 스레드가 같은 클라이언트 (최대 경합, 한 사용자의 동시 요청 폭주)
+ * - *ManyKeys: 1024개 클라이언트에 분산 (일반 트래픽)
+ *
+ * 제한(65535/60초)에 도달한 뒤에는 거부 경로가 측정됩니다 (legacy는 거부에도 락 획득, cas는 CAS 없이 반환).
+ *
+ * 사용 예: ./gradlew jmhBenchmark -Pjmh=RateLimiterBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(64)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 1024;
+    private static final int LIMIT = RateLimitBucket.MAX_LIMIT;
+    private static final int PERIOD_SECONDS = 60;
+    private static final String ENDPOINT_TYPE = "API";
+
+    private final ConcurrentHashMap<String, LegacyBucket> legacyBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, RateLimitBucket> casBuckets = new ConcurrentHashMap<>();
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public int legacyHotKey() {
+        return legacy(clientIps[0]);
+    }
+
+    @Benchmark
+    public int casHotKey() {
+        return cas(clientIps[0]);
+    }
+
+    @Benchmark
+    public int legacyManyKeys() {
+        return legacy(clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    @Benchmark
+    public int casManyKeys() {
+        return cas(clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    private int legacy(String ip) {
+        String bucketKey = "ip:" + ip + ":" + ENDPOINT_TYPE;
+        LegacyBucket bucket = legacyBuckets.computeIfAbsent(bucketKey,
+                key -> new LegacyBucket(LIMIT, PERIOD_SECONDS));
+        if (bucket.tryConsume()) {
+            return bucket.getRemaining() + (int) bucket.getSecondsUntilReset();
+        }
+        return (int) bucket.getSecondsUntilReset();
+    }
+
+    private int cas(String ip) {
+        long now = System.nanoTime();
+        RateLimitBucket bucket = casBuckets.get(ip);
+        if (bucket == null) {
+            bucket = casBuckets.computeIfAbsent(ip, key -> new RateLimitBucket(LIMIT, PERIOD_SECONDS, now));
+        }
+        return bucket.tryConsume(now) + (int) bucket.getSecondsUntilReset(now);
+    }
+
+    /**
+     * 이전 RateLimitingFilter.RateLimitBucket (synchronized 고정 윈도우)
+     */
+    private static class LegacyBucket {
+        private final AtomicInteger count = new AtomicInteger(0);
+        private volatile long windowStart;
+        private final int limit;
+        private final int windowSeconds;
+
+        LegacyBucket(int limit, int windowSeconds) {
+            this.limit = limit;
+            this.windowSeconds = windowSeconds;
+            this.windowStart = Instant.now().getEpochSecond();
+        }
+
+        synchronized boolean tryConsume() {
+            long now = Instant.now().getEpochSecond();
+            if (now - windowStart >= windowSeconds) {
+                count.set(0);
+                windowStart = now;
+            }
+            if (count.get() >= limit) {
+                return false;
+            }
+            count.incrementAndGet();
+            return true;
+        }
+
+        int getRemaining() {
+            return Math.max(0, limit - count.get());
+        }
+
+        long getSecondsUntilReset() {
+            long now = Instant.now().getEpochSecond();
+            return Math.max(1, windowSeconds - (now - windowStart));
+        }
+    }
+}
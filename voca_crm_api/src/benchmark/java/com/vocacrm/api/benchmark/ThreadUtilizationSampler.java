@@ -0,0 +1,88 @@
+package com.vocacrm.api.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 풀별 사용률 표본 수집
+ *
+ * 일정 간격으로 스레드 상태를 조회하여 이름 접두사별로 RUNNABLE 비율과 최대 스레드 수를 집계합니다.
+ * 네트워크 대기(RUNNABLE로 보고됨)가 포함되므로 CPU 사용률이 아닌 "점유율"로 해석해야 합니다.
+ */
+public class ThreadUtilizationSampler implements AutoCloseable {
+
+    private final List<String> prefixes;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Map<String, Usage> usages = new LinkedHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "benchmark-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public record Summary(String prefix, double runnableRatio, int peakThreads) {
+    }
+
+    private static final class Usage {
+        long runnable;
+        long total;
+        int peak;
+    }
+
+    public ThreadUtilizationSampler(List<String> prefixes) {
+        this.prefixes = List.copyOf(prefixes);
+        for (String prefix : prefixes) {
+            usages.put(prefix, new Usage());
+        }
+    }
+
+    public void start(long intervalMillis) {
+        executor.scheduleAtFixedRate(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized List<Summary> summaries() {
+        return usages.entrySet().stream()
+                .map(entry -> {
+                    Usage usage = entry.getValue();
+                    double ratio = usage.total == 0 ? 0.0 : (double) usage.runnable / usage.total;
+                    return new Summary(entry.getKey(), ratio, usage.peak);
+                })
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void sample() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (ThreadInfo info : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds())) {
+            if (info == null) {
+                continue;
+            }
+            for (String prefix : prefixes) {
+                if (info.getThreadName().startsWith(prefix)) {
+                    Usage usage = usages.get(prefix);
+                    usage.total++;
+                    if (info.getThreadState() == Thread.State.RUNNABLE) {
+                        usage.runnable++;
+                    }
+                    counts.merge(prefix, 1, Integer::sum);
+                    break;
+                }
+            }
+        }
+        counts.forEach((prefix, count) -> {
+            Usage usage = usages.get(prefix);
+            usage.peak = Math.max(usage.peak, count);
+        });
+    }
+}
@@ -0,0 +1,248 @@
+package com.vocacrm.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ollama(/api/generate)와 DeepL(/v2/translate)을 대신하는 프로세스 내 HTTP 스텁
+ *
+ * 유료 DeepL과 GPU 서버 없이 음성 파이프라인 부하를 재현하기 위한 용도입니다.
+ * 응답 내용은 VoiceCorpus의 정답 번역/LLM 응답을 사용하고, 지연 시간은 LatencyDistribution에서 표본을 뽑습니다.
+ *
+ * - Ollama: stream=true면 NDJSON 토큰 조각으로 전송, malformedRate 확률로 JSON이 없거나 잘린 응답 반환
+ * - DeepL: text 배열을 받아 같은 순서로 번역 반환, errorRate 확률로 503 응답
+ */
+@Slf4j
+public class UpstreamStubServer implements AutoCloseable {
+
+    public static final String OLLAMA_PATH = "/api/generate";
+    public static final String DEEPL_PATH = "/v2/translate";
+
+    private static final int STREAM_CHUNK_CHARS = 8;
+
+    private final VoiceCorpus corpus;
+    private final ObjectMapper objectMapper;
+    private final Settings settings;
+
+    private final AtomicLong ollamaRequests = new AtomicLong();
+    private final AtomicLong ollamaMalformed = new AtomicLong();
+    private final AtomicLong deeplRequests = new AtomicLong();
+    private final AtomicLong deeplTexts = new AtomicLong();
+    private final AtomicLong deeplErrors = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param ollamaLatency    Ollama 응답 지연 분포
+     * @param ollamaMalformedRate 형식이 잘못된 응답 비율 (0.0 ~ 1.0)
+     * @param deeplLatency     DeepL 응답 지연 분포
+     * @param deeplErrorRate   503 응답 비율 (0.0 ~ 1.0)
+     */
+    public record Settings(LatencyDistribution ollamaLatency,
+                           double ollamaMalformedRate,
+                           LatencyDistribution deeplLatency,
+                           double deeplErrorRate) {
+    }
+
+    public UpstreamStubServer(VoiceCorpus corpus, ObjectMapper objectMapper, Settings settings) {
+        this.corpus = corpus;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+    }
+
+    /**
+     * 로컬 임의 포트로 기동
+     */
+    public void start() throws IOException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 지연 시간 동안 스레드를 점유하므로 요청마다 스레드 사용 (실제 업스트림처럼 동시 요청을 병렬 처리)
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-stub-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        server.createContext(OLLAMA_PATH, this::handleOllama);
+        server.createContext(DEEPL_PATH, this::handleDeepL);
+        server.setExecutor(executor);
+        server.start();
+
+        log.info("Upstream stub listening on {} (ollama={}, deepl={})", baseUrl(), settings.ollamaLatency(), settings.deeplLatency());
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public long ollamaRequests() {
+        return ollamaRequests.get();
+    }
+
+    public long ollamaMalformed() {
+        return ollamaMalformed.get();
+    }
+
+    public long deeplRequests() {
+        return deeplRequests.get();
+    }
+
+    public long deeplTexts() {
+        return deeplTexts.get();
+    }
+
+    public long deeplErrors() {
+        return deeplErrors.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void handleOllama(HttpExchange exchange) throws IOException {
+        try {
+            ollamaRequests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            Random random = ThreadLocalRandom.current();
+
+            String response = corpus.llmResponse(extractInput(request.path("prompt").asText()));
+            if (random.nextDouble() < settings.ollamaMalformedRate()) {
+                ollamaMalformed.incrementAndGet();
+                response = malformed(response, random);
+            }
+
+            sleep(settings.ollamaLatency().sampleMillis(random));
+
+            if (request.path("stream").asBoolean(false)) {
+                writeStream(exchange, response);
+            } else {
+                ObjectNode body = objectMapper.createObjectNode();
+                body.put("model", request.path("model").asText());
+                body.put("response", response);
+                body.put("done", true);
+                writeJson(exchange, 200, body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleDeepL(HttpExchange exchange) throws IOException {
+        try {
+            deeplRequests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            Random random = ThreadLocalRandom.current();
+
+            sleep(settings.deeplLatency().sampleMillis(random));
+
+            if (random.nextDouble() < settings.deeplErrorRate()) {
+                deeplErrors.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            ArrayNode translations = objectMapper.createArrayNode();
+            for (JsonNode text : request.path("text")) {
+                deeplTexts.incrementAndGet();
+                translations.addObject()
+                        .put("detected_source_language", "KO")
+                        .put("text", corpus.translate(text.asText()));
+            }
+
+            ObjectNode body = objectMapper.createObjectNode();
+            body.set("translations", translations);
+            writeJson(exchange, 200, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 프롬프트(Input: "..."\nOutput:)에서 번역문 추출
+     */
+    private static String extractInput(String prompt) {
+        int start = prompt.indexOf("Input: \"");
+        int end = prompt.lastIndexOf("\"\nOutput:");
+        if (start < 0 || end < start) {
+            return prompt;
+        }
+        return prompt.substring(start + "Input: \"".length(), end);
+    }
+
+    /**
+     * 실제 모델에서 관찰되는 형식 오류 재현 (설명문만 있는 응답, 잘린 JSON, category 누락)
+     */
+    private static String malformed(String response, Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> "Sure! I can help you with that request.";
+            case 1 -> response.substring(0, Math.max(1, response.length() / 2));
+            default -> response.replace("\"category\"", "\"kategory\"");
+        };
+    }
+
+    /**
+     * Ollama NDJSON 스트림 형식으로 응답 조각 전송
+     */
+    private void writeStream(HttpExchange exchange, String response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < response.length(); i += STREAM_CHUNK_CHARS) {
+                ObjectNode chunk = objectMapper.createObjectNode();
+                chunk.put("response", response.substring(i, Math.min(response.length(), i + STREAM_CHUNK_CHARS)));
+                chunk.put("done", false);
+                out.write((objectMapper.writeValueAsString(chunk) + "\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            out.write("{\"response\":\"\",\"done\":true}\n".getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // 클라이언트가 JSON 완성 후 구독을 취소하면 연결이 끊김 (정상)
+            log.trace("Ollama stub stream closed by client: {}", e.getMessage());
+        }
+    }
+
+    private void writeJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
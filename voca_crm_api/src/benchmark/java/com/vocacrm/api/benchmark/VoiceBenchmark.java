@@ -0,0 +1,216 @@
+package com.vocacrm.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocacrm.api.VocaCrmApiApplication;
+import com.vocacrm.api.dto.VoiceCommandRequest;
+import com.vocacrm.api.dto.VoiceCommandResponse;
+import com.vocacrm.api.service.TranslationPreprocessor;
+import com.vocacrm.api.service.VoiceCommandService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음성 명령 파이프라인 오프라인 벤치마크
+ *
+ * Ollama/DeepL 스텁을 프로세스 안에서 띄우고, 실제 애플리케이션 컨텍스트(로컬 PostgreSQL/Redis)의
+ * VoiceCommandService로 음성 명령 모음을 목표 동시성으로 재생합니다.
+ * 파이프라인 변경 전후 처리량/지연 회귀를 노트북에서 확인하기 위한 용도입니다.
+ *
+ * 실행: ./gradlew voiceBenchmark --args="--benchmark.requests=1000 --benchmark.concurrency=32"
+ *
+ * 옵션 (나머지 --key=value 인자는 Spring 설정으로 전달, 예: --voice.fast-path.enabled=false):
+ * - benchmark.requests (500), benchmark.concurrency (16), benchmark.warmup (20)
+ * - benchmark.user-id: 기본 사업장을 가진 로컬 사용자 ID (없으면 사업장 없이 실행)
+ * - benchmark.corpus (benchmark/voice-corpus.tsv)
+ * - benchmark.ollama.latency (lognormal:800,0.4), benchmark.ollama.malformed-rate (0.05)
+ * - benchmark.deepl.latency (lognormal:120,0.3), benchmark.deepl.error-rate (0.0)
+ *
+ * 출력: 처리량, p50/p95/p99 지연, 응답 상태별 건수, LLM 응답 파싱 성공률, 스레드 풀 점유율
+ */
+public final class VoiceBenchmark {
+
+    private static final List<String> THREAD_PREFIXES =
+            List.of("voice-pipeline", "reactor-http", "parallel", "upstream-stub");
+
+    private VoiceBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        DefaultApplicationArguments arguments = new DefaultApplicationArguments(args);
+
+        int requests = intOption(arguments, "benchmark.requests", 500);
+        int concurrency = intOption(arguments, "benchmark.concurrency", 16);
+        int warmup = intOption(arguments, "benchmark.warmup", 20);
+        String userId = option(arguments, "benchmark.user-id", null);
+
+        VoiceCorpus corpus = VoiceCorpus.load(option(arguments, "benchmark.corpus", "benchmark/voice-corpus.tsv"));
+        UpstreamStubServer.Settings settings = new UpstreamStubServer.Settings(
+                LatencyDistribution.parse(option(arguments, "benchmark.ollama.latency", "lognormal:800,0.4")),
+                Double.parseDouble(option(arguments, "benchmark.ollama.malformed-rate", "0.05")),
+                LatencyDistribution.parse(option(arguments, "benchmark.deepl.latency", "lognormal:120,0.3")),
+                Double.parseDouble(option(arguments, "benchmark.deepl.error-rate", "0.0")));
+
+        try (UpstreamStubServer stub = new UpstreamStubServer(corpus, new ObjectMapper(), settings)) {
+            stub.start();
+
+            SpringApplication application = new SpringApplication(VocaCrmApiApplication.class);
+            application.setAdditionalProfiles("benchmark");
+
+            // 명령행 인자는 application.yaml보다 우선하므로 업스트림 주소를 스텁으로 교체
+            List<String> springArgs = new ArrayList<>(Arrays.asList(args));
+            springArgs.add("--ai.server.url=" + stub.baseUrl());
+            springArgs.add("--deepl.api-url=" + stub.baseUrl() + UpstreamStubServer.DEEPL_PATH);
+            springArgs.add("--deepl.api-key=benchmark");
+
+            try (ConfigurableApplicationContext context = application.run(springArgs.toArray(new String[0]))) {
+                VoiceCommandService voiceCommandService = context.getBean(VoiceCommandService.class);
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                corpus.registerMasked(context.getBean(TranslationPreprocessor.class));
+
+                replay(voiceCommandService, corpus, userId, warmup, Math.min(concurrency, Math.max(1, warmup)), null);
+
+                long llmAttemptsBefore = llmAttempts(meterRegistry);
+                double parseFailuresBefore = parseFailures(meterRegistry);
+                long ollamaBefore = stub.ollamaRequests();
+                long deeplBefore = stub.deeplRequests();
+                long deeplTextsBefore = stub.deeplTexts();
+
+                Result result;
+                try (ThreadUtilizationSampler sampler = new ThreadUtilizationSampler(THREAD_PREFIXES)) {
+                    sampler.start(50);
+                    result = replay(voiceCommandService, corpus, userId, requests, concurrency, sampler);
+                }
+
+                long llmAttempts = llmAttempts(meterRegistry) - llmAttemptsBefore;
+                double parseFailures = parseFailures(meterRegistry) - parseFailuresBefore;
+
+                printReport(result, requests, concurrency, settings,
+                        llmAttempts, parseFailures,
+                        stub.ollamaRequests() - ollamaBefore,
+                        stub.deeplRequests() - deeplBefore,
+                        stub.deeplTexts() - deeplTextsBefore);
+            }
+        }
+
+        System.exit(0);
+    }
+
+    private record Result(long[] latenciesNanos, long wallNanos, Map<String, Long> outcomes,
+                          List<ThreadUtilizationSampler.Summary> threads) {
+    }
+
+    /**
+     * 음성 명령 모음을 순환하며 목표 동시성으로 재생
+     */
+    private static Result replay(VoiceCommandService service, VoiceCorpus corpus, String userId,
+                                 int requests, int concurrency, ThreadUtilizationSampler sampler) {
+        long[] latencies = new long[requests];
+        Map<String, AtomicLong> outcomes = new ConcurrentHashMap<>();
+        List<VoiceCorpus.Entry> entries = corpus.entries();
+
+        long started = System.nanoTime();
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    VoiceCommandRequest request = new VoiceCommandRequest();
+                    request.setText(entries.get(i % entries.size()).korean());
+                    request.setUserId(userId);
+
+                    long start = System.nanoTime();
+                    return service.processNewCommand(request)
+                            .onErrorResume(e -> Mono.just(VoiceCommandResponse.builder()
+                                    .status("error").errorCode("UNCAUGHT_" + e.getClass().getSimpleName()).build()))
+                            .doOnNext(response -> {
+                                latencies[i] = System.nanoTime() - start;
+                                outcomes.computeIfAbsent(outcome(response), key -> new AtomicLong()).incrementAndGet();
+                            });
+                }, concurrency)
+                .blockLast();
+        long wall = System.nanoTime() - started;
+
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((key, value) -> counts.put(key, value.get()));
+        return new Result(latencies, wall, counts, sampler == null ? List.of() : sampler.summaries());
+    }
+
+    private static String outcome(VoiceCommandResponse response) {
+        if (response.getErrorCode() != null) {
+            return response.getStatus() + "/" + response.getErrorCode();
+        }
+        return String.valueOf(response.getStatus());
+    }
+
+    private static void printReport(Result result, int requests, int concurrency, UpstreamStubServer.Settings settings,
+                                    long llmAttempts, double parseFailures,
+                                    long ollamaRequests, long deeplRequests, long deeplTexts) {
+        long[] sorted = result.latenciesNanos().clone();
+        Arrays.sort(sorted);
+        double wallSeconds = result.wallNanos() / 1_000_000_000.0;
+
+        StringBuilder report = new StringBuilder();
+        report.append("\n===== Voice pipeline benchmark =====\n");
+        report.append(String.format("requests=%d concurrency=%d ollama=%s (malformed %.0f%%) deepl=%s (errors %.0f%%)%n",
+                requests, concurrency, settings.ollamaLatency(), settings.ollamaMalformedRate() * 100,
+                settings.deeplLatency(), settings.deeplErrorRate() * 100));
+        report.append(String.format("throughput      : %.1f req/s (%.2f s)%n", requests / wallSeconds, wallSeconds));
+        report.append(String.format("latency p50     : %d ms%n", percentileMillis(sorted, 0.50)));
+        report.append(String.format("latency p95     : %d ms%n", percentileMillis(sorted, 0.95)));
+        report.append(String.format("latency p99     : %d ms%n", percentileMillis(sorted, 0.99)));
+        report.append(String.format("latency max     : %d ms%n", percentileMillis(sorted, 1.0)));
+        report.append(String.format("llm attempts    : %d (stub requests %d)%n", llmAttempts, ollamaRequests));
+        report.append(String.format("parse success   : %s%n", llmAttempts == 0 ? "n/a"
+                : String.format("%.1f%%", 100.0 * (1.0 - parseFailures / llmAttempts))));
+        report.append(String.format("deepl requests  : %d (%d texts)%n", deeplRequests, deeplTexts));
+        report.append("outcomes:\n");
+        result.outcomes().forEach((outcome, count) ->
+                report.append(String.format("  %-40s %d%n", outcome, count)));
+        report.append("thread utilization (runnable ratio / peak threads):\n");
+        for (ThreadUtilizationSampler.Summary summary : result.threads()) {
+            report.append(String.format("  %-40s %.0f%% / %d%n",
+                    summary.prefix(), summary.runnableRatio() * 100, summary.peakThreads()));
+        }
+
+        System.out.println(report);
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000;
+    }
+
+    private static long llmAttempts(MeterRegistry meterRegistry) {
+        Timer timer = meterRegistry.find("voice.pipeline.stage").tag("stage", "llm").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static double parseFailures(MeterRegistry meterRegistry) {
+        return meterRegistry.find("voice.llm.parse.failures").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private static String option(DefaultApplicationArguments arguments, String name, String defaultValue) {
+        List<String> values = arguments.getOptionValues(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private static int intOption(DefaultApplicationArguments arguments, String name, int defaultValue) {
+        return Integer.parseInt(option(arguments, name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.vocacrm.api.benchmark;
+
+import com.vocacrm.api.service.TranslationPreprocessor;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크 재생용 음성 명령 모음 (benchmark/voice-corpus.tsv)
+ *
+ * 한 줄에 한국어 명령, 스텁 번역 결과, 스텁 LLM 응답(JSON)을 탭으로 구분하여 기록합니다.
+ */
+public final class VoiceCorpus {
+
+    public record Entry(String korean, String english, String llmResponse) {
+    }
+
+    private final List<Entry> entries;
+    private final Map<String, String> translations = new ConcurrentHashMap<>();
+    private final Map<String, String> llmResponses = new ConcurrentHashMap<>();
+
+    private VoiceCorpus(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+        for (Entry entry : entries) {
+            translations.put(entry.korean(), entry.english());
+            llmResponses.put(entry.english(), entry.llmResponse());
+        }
+    }
+
+    public static VoiceCorpus load(String location) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        ClassPathResource resource = new ClassPathResource(location);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length < 3) {
+                    throw new IllegalStateException("Invalid corpus line: " + line);
+                }
+                entries.add(new Entry(columns[0].trim(), columns[1].trim(), columns[2].trim()));
+            }
+        }
+
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("Corpus is empty: " + location);
+        }
+        return new VoiceCorpus(entries);
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * 번역 전처리 후 DeepL로 전송되는 텍스트(자리표시자 포함)도 같은 번역 결과로 등록
+     *
+     * 스텁 번역에는 자리표시자가 없으므로 복원 후에도 모음의 번역문 그대로 Ollama 스텁에 전달됩니다.
+     * DeepL을 생략하는 명령은 로컬 번역 결과로 Ollama 스텁 응답을 등록합니다.
+     */
+    public void registerMasked(TranslationPreprocessor preprocessor) {
+        for (Entry entry : entries) {
+            TranslationPreprocessor.Prepared prepared = preprocessor.prepare(entry.korean());
+            if (prepared.bypass()) {
+                llmResponses.putIfAbsent(prepared.local(), entry.llmResponse());
+            } else {
+                translations.putIfAbsent(prepared.masked(), entry.english());
+            }
+        }
+    }
+
+    /**
+     * DeepL 스텁 번역 (모음에 없는 문장은 원문 그대로)
+     */
+    public String translate(String korean) {
+        return translations.getOrDefault(korean, korean);
+    }
+
+    /**
+     * Ollama 스텁 응답 (모음에 없는 문장은 ERROR/UNKNOWN)
+     */
+    public String llmResponse(String english) {
+        return llmResponses.getOrDefault(english,
+                "{\"category\":\"ERROR\",\"action\":\"UNKNOWN\",\"parameters\":{\"message\":\"명령을 이해할 수 없습니다.\"}}");
+    }
+}
@@ -1,5 +1,6 @@
 package com.vocacrm.api.aspect;
 
+import com.vocacrm.api.dto.AuthPrincipal;
 import com.vocacrm.api.model.AuditLog.AuditAction;
 import com.vocacrm.api.service.AuditLogService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -71,14 +72,16 @@ public class AuditAspect {
             }
 
             HttpServletRequest request = attrs.getRequest();
-            String userId = (String) request.getAttribute("userId");
-            String username = (String) request.getAttribute("username");
-            String businessPlaceId = (String) request.getAttribute("defaultBusinessPlaceId");
+            AuthPrincipal principal = AuthPrincipal.from(request);
 
-            if (userId == null) {
+            if (principal == null || principal.userId() == null) {
                 return;
             }
 
+            String userId = principal.userId();
+            String username = principal.username();
+            String businessPlaceId = principal.defaultBusinessPlaceId();
+
             // 결과에서 엔티티 ID 추출 시도
             String entityId = extractEntityId(result, joinPoint.getArgs());
             String entityName = extractEntityName(result);
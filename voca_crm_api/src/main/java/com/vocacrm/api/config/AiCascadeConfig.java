@@ -0,0 +1,71 @@
+package com.vocacrm.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 의도 분석 2단계 모델 설정
+ *
+ * 작은 모델이 먼저 category/action을 분류하고, 결과 검증 또는 신뢰도 기준을 통과하지 못한 경우에만
+ * 큰 모델(ai.server.model)을 호출합니다.
+ * application.yaml의 ai.cascade 섹션에서 값을 가져옵니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ai.cascade")
+public class AiCascadeConfig {
+
+    /**
+     * 2단계 분석 사용 여부 (false면 큰 모델만 호출)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 1단계 작은 모델 이름 (Ollama)
+     */
+    private String smallModel = "voca-crm-small";
+
+    /**
+     * 1단계 최대 생성 토큰 수
+     */
+    private int smallNumPredict = 96;
+
+    /**
+     * 1단계 응답 타임아웃 (ms) - 초과 시 재시도 없이 큰 모델로 전환
+     */
+    private int smallTimeout = 5000;
+
+    /**
+     * 이 신뢰도 미만이면 큰 모델로 전환 (0.0 ~ 1.0)
+     */
+    private double minConfidence = 0.7;
+
+    /**
+     * 카테고리별 설정 (키: MEMBER, MEMO, VISIT, STATISTICS)
+     */
+    private Map<String, CategoryOverride> categories = new HashMap<>();
+
+    @Data
+    public static class CategoryOverride {
+        /**
+         * 카테고리 신뢰도 기준 (없으면 minConfidence 사용)
+         */
+        private Double minConfidence;
+
+        /**
+         * 항상 큰 모델로 분석
+         */
+        private boolean alwaysEscalate = false;
+
+        /**
+         * 큰 모델로 분석할 액션 (삭제 등 되돌릴 수 없는 명령)
+         */
+        private List<String> escalateActions = new ArrayList<>();
+    }
+}
@@ -4,10 +4,14 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Rate Limiting 설정
  *
  * 엔드포인트 유형별로 요청 제한을 설정합니다.
+ * 인증된 요청은 사용자별(등급 배율 적용) + 사업장 합산 한도를, 비인증 요청은 IP별 한도를 적용합니다.
  * application.yaml의 rate-limit 섹션에서 값을 가져옵니다.
  */
 @Data
@@ -59,6 +63,64 @@ public class RateLimitConfig {
      */
     private EndpointLimit errorLog = new EndpointLimit(10, 60);
 
+    /**
+     * 사용자 등급(User.tier)별 한도 배율 (예: PREMIUM 3.0)
+     * 설정에 없는 등급과 등급 정보가 없는 토큰은 1.0
+     */
+    private Map<String, Double> tierMultipliers = new HashMap<>();
+
+    /**
+     * 사업장 합산 한도 (같은 사업장 직원들의 요청 합계)
+     */
+    private BusinessPlaceLimit businessPlace = new BusinessPlaceLimit();
+
+    /**
+     * 분산 모드 (Redis로 모든 API 노드가 한도를 공유)
+     */
+    private Distributed distributed = new Distributed();
+
+    @Data
+    public static class BusinessPlaceLimit {
+        /**
+         * 사업장 합산 한도 적용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 사업장 합산 한도 = 엔드포인트 유형별 기본 한도 × multiplier (요청자 등급 배율은 적용하지 않음)
+         */
+        private double multiplier = 5.0;
+    }
+
+    @Data
+    public static class Distributed {
+        /**
+         * 분산 모드 활성화 여부 (비활성화 시 노드별 로컬 한도)
+         */
+        private boolean enabled = false;
+
+        /**
+         * Redis 동기화 후 로컬에서 허용할 수 있는 비율 (남은 한도 × localShare)
+         * 한도에 여유가 큰 클라이언트만 Redis 호출 없이 처리됨
+         */
+        private double localShare = 0.1;
+
+        /**
+         * 로컬 허용분을 Redis에 반영하는 최대 간격 (밀리초)
+         */
+        private long syncIntervalMs = 1000;
+
+        /**
+         * Redis 오류 후 로컬 한도만 사용하는 시간 (밀리초)
+         */
+        private long redisRetryMs = 5000;
+
+        /**
+         * Rate Limit 전용 Redis 연결의 명령 타임아웃 (밀리초, 초과 시 로컬 한도 사용)
+         */
+        private long commandTimeoutMs = 50;
+    }
+
     @Data
     public static class EndpointLimit {
         /**
@@ -0,0 +1,93 @@
+package com.vocacrm.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API(Ollama, DeepL) 장애 대응 설정
+ *
+ * 업스트림별 서킷 브레이커, 동시 호출 제한(벌크헤드), 헤지 요청 설정입니다.
+ * application.yaml의 resilience 섹션에서 값을 가져옵니다.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceConfig {
+
+    /**
+     * Ollama AI 서버 (단일 GPU 서버이므로 동시 호출을 작게 유지)
+     * 기본값: 동시 4건, 헤지 지연 3초
+     */
+    private Upstream ollama = new Upstream(4, 3000);
+
+    /**
+     * DeepL 번역 API
+     * 기본값: 동시 10건, 헤지 지연 800ms
+     */
+    private Upstream deepl = new Upstream(10, 800);
+
+    @Data
+    public static class Upstream {
+        /**
+         * 서킷 오픈 실패율 (%)
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * 실패율 계산에 사용하는 최근 호출 수
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * 실패율 계산 전 최소 호출 수
+         */
+        private int minimumNumberOfCalls = 10;
+
+        /**
+         * 서킷 오픈 유지 시간 (초) - 이후 half-open으로 전환하여 일부 호출 허용
+         */
+        private int openStateSeconds = 30;
+
+        /**
+         * half-open 상태에서 허용하는 시험 호출 수
+         */
+        private int halfOpenCalls = 3;
+
+        /**
+         * 최대 동시 호출 수 (초과 시 대기 없이 즉시 거부)
+         */
+        private int maxConcurrentCalls;
+
+        /**
+         * 헤지 요청 사용 여부
+         * 첫 요청이 p95 응답 시간 내에 끝나지 않으면 동일 요청을 한 번 더 보내고 먼저 온 응답 사용
+         */
+        private boolean hedging = false;
+
+        /**
+         * 응답 시간 표본이 부족할 때 사용하는 헤지 지연 (ms)
+         */
+        private long hedgeDelayMs;
+
+        /**
+         * 헤지 지연 최솟값 (ms) - p95가 매우 작을 때 불필요한 중복 요청 방지
+         */
+        private long hedgeMinDelayMs = 100;
+
+        /**
+         * p95 기반 헤지 지연을 사용하기 위한 최소 표본 수
+         */
+        private int hedgeMinSamples = 50;
+
+        public Upstream() {
+            this.maxConcurrentCalls = 10;
+            this.hedgeDelayMs = 1000;
+        }
+
+        public Upstream(int maxConcurrentCalls, long hedgeDelayMs) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.hedgeDelayMs = hedgeDelayMs;
+        }
+    }
+}
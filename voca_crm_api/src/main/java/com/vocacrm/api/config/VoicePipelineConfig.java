@@ -0,0 +1,39 @@
+package com.vocacrm.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 음성 명령 파이프라인 설정
+ *
+ * 음성 명령은 번역 → AI 분석 → DB 처리 순서의 비동기 체인으로 실행됩니다.
+ * DeepL/Ollama 호출은 논블로킹(WebClient)으로 처리하고, 블로킹 작업(JPA, Redis)은
+ * 전용 스레드 풀에서만 실행하여 AI 지연 시 Tomcat 요청 스레드가 고갈되지 않도록 합니다.
+ */
+@Configuration
+public class VoicePipelineConfig {
+
+    /**
+     * 음성 명령 블로킹 작업 스레드 수
+     * HikariCP 최대 커넥션 수(10)보다 작게 유지하여 일반 CRM API용 커넥션을 남겨둠
+     */
+    @Value("${voice.pipeline.blocking-threads:6}")
+    private int blockingThreads;
+
+    /**
+     * 스레드가 모두 사용 중일 때 대기 가능한 작업 수
+     */
+    @Value("${voice.pipeline.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * 음성 명령 DB/Redis 작업 전용 스케줄러
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler voiceScheduler() {
+        return Schedulers.newBoundedElastic(blockingThreads, queueCapacity, "voice-pipeline");
+    }
+}
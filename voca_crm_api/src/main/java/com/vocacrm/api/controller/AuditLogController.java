@@ -1,11 +1,9 @@
 package com.vocacrm.api.controller;
 
-import com.vocacrm.api.model.AccessStatus;
 import com.vocacrm.api.model.AuditLog;
 import com.vocacrm.api.model.Role;
-import com.vocacrm.api.model.UserBusinessPlace;
-import com.vocacrm.api.repository.UserBusinessPlaceRepository;
 import com.vocacrm.api.service.AuditLogService;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +16,6 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 
 import static com.vocacrm.api.util.PaginationUtils.limitPageSize;
@@ -39,7 +36,7 @@ import static com.vocacrm.api.util.PaginationUtils.validatePage;
 public class AuditLogController {
 
     private final AuditLogService auditLogService;
-    private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
 
     /**
      * 사업장별 감사 로그 목록 조회
@@ -377,9 +374,6 @@ public class AuditLogController {
             return null;
         }
 
-        Optional<UserBusinessPlace> ubp = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
-
-        return ubp.map(UserBusinessPlace::getRole).orElse(null);
+        return businessPlacePermissionCache.findApprovedRole(UUID.fromString(userId), businessPlaceId).orElse(null);
     }
 }
@@ -241,7 +241,8 @@ public class MemberController {
      *
      * 응답 형식:
      * {
-     *   "data": [...]
+     *   "data": [...],
+     *   "similar": [...]  // 이름 검색 결과가 없을 때만, 유사 이름(음성 인식 오류 보정) 근사 결과
      * }
      *
      * 권한 검증: 사용자의 기본 사업장 회원만 검색
@@ -253,7 +254,7 @@ public class MemberController {
      * @param servletRequest HttpServletRequest (JWT에서 추출한 정보 포함)
      * @return 검색된 회원 목록 (HTTP 200 OK)
      */
-    @Operation(summary = "회원 검색", description = "회원번호, 이름, 전화번호, 이메일로 검색")
+    @Operation(summary = "회원 검색", description = "회원번호, 이름, 전화번호, 이메일로 검색 (일치하는 이름이 없으면 유사 이름 회원을 similar 필드로 반환)")
     @ApiResponse(responseCode = "200", description = "검색 성공")
     @GetMapping("/search")
     public ResponseEntity<java.util.Map<String, Object>> searchMembers(
@@ -264,6 +265,14 @@ public class MemberController {
             jakarta.servlet.http.HttpServletRequest servletRequest) {
         String businessPlaceId = (String) servletRequest.getAttribute("defaultBusinessPlaceId");
         List<Member> members = memberService.searchMembers(memberNumber, name, phone, email, businessPlaceId);
+
+        // 일치하는 이름이 없으면 유사 이름 회원을 별도 필드로 제공 (근사 결과, data에는 포함하지 않음)
+        if (members.isEmpty() && (memberNumber == null || memberNumber.isEmpty()) && name != null && !name.isEmpty()) {
+            List<Member> similar = memberService.searchMembersBySimilarName(name, businessPlaceId);
+            if (!similar.isEmpty()) {
+                return ResponseEntity.ok(java.util.Map.of("data", members, "similar", similar));
+            }
+        }
         return ResponseEntity.ok(java.util.Map.of("data", members));
     }
 
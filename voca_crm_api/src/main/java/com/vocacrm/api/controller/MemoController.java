@@ -3,10 +3,9 @@ package com.vocacrm.api.controller;
 import com.vocacrm.api.dto.request.MemoCreateRequest;
 import com.vocacrm.api.dto.request.MemoUpdateRequest;
 import com.vocacrm.api.exception.AccessDeniedException;
-import com.vocacrm.api.model.AccessStatus;
 import com.vocacrm.api.model.Member;
 import com.vocacrm.api.model.Memo;
-import com.vocacrm.api.repository.UserBusinessPlaceRepository;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
 import com.vocacrm.api.service.MemberService;
 import com.vocacrm.api.service.MemoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,7 +53,7 @@ public class MemoController {
      */
     private final MemoService memoService;
     private final MemberService memberService;
-    private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
 
     /**
      * ID로 특정 메모 조회
@@ -133,9 +132,7 @@ public class MemoController {
             jakarta.servlet.http.HttpServletRequest servletRequest) {
         String userId = (String) servletRequest.getAttribute("userId");
 
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장의 메모에 대한 접근 권한이 없습니다.");
@@ -203,9 +200,7 @@ public class MemoController {
         // 회원이 사용자의 사업장에 속하는지 확인
         Member member = memberService.getMemberById(memberId);
 
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), member.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), member.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 회원의 메모에 대한 접근 권한이 없습니다.");
@@ -265,9 +260,7 @@ public class MemoController {
         // 회원이 사용자의 사업장에 속하는지 확인
         Member member = memberService.getMemberById(memberId);
 
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), member.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), member.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 회원의 메모에 대한 접근 권한이 없습니다.");
@@ -549,6 +542,69 @@ public class MemoController {
         return ResponseEntity.ok(deleted);
     }
 
+    /**
+     * 회원의 메모 일괄 Soft Delete
+     *
+     * HTTP Method: DELETE
+     * URL: /api/memos/member/{memberId}/soft
+     *
+     * 권한 확인은 한 번만 수행하고 단일 UPDATE로 처리합니다.
+     * 메모별 삭제 권한 규칙은 softDeleteMemo와 같으며, 권한이 없는 메모는 skippedCount로 반환됩니다.
+     *
+     * @param memberId 회원 UUID
+     * @param servletRequest HttpServletRequest (JWT에서 추출한 정보 포함)
+     * @return 삭제/제외 건수 (HTTP 200 OK)
+     */
+    @Operation(summary = "회원 메모 일괄 Soft Delete", description = "회원의 메모를 한 번에 삭제 대기 상태로 전환")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @ApiResponse(responseCode = "403", description = "사업장 접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "회원 없음")
+    })
+    @DeleteMapping("/member/{memberId}/soft")
+    public ResponseEntity<java.util.Map<String, Object>> softDeleteMemosByMember(
+            @PathVariable String memberId,
+            jakarta.servlet.http.HttpServletRequest servletRequest) {
+
+        String requestUserId = (String) servletRequest.getAttribute("userId");
+        String businessPlaceId = (String) servletRequest.getAttribute("defaultBusinessPlaceId");
+
+        MemoService.BulkMemoResult result = memoService.softDeleteAllByMember(memberId, requestUserId, businessPlaceId);
+        return ResponseEntity.ok(java.util.Map.of(
+                "deletedCount", result.affectedCount(),
+                "skippedCount", result.skippedCount()));
+    }
+
+    /**
+     * 회원의 삭제 대기 메모 일괄 복원
+     *
+     * HTTP Method: POST
+     * URL: /api/memos/member/{memberId}/restore
+     *
+     * 권한: MANAGER 이상만 복원 가능
+     *
+     * @param memberId 회원 UUID
+     * @param servletRequest HttpServletRequest (JWT에서 추출한 정보 포함)
+     * @return 복원 건수 (HTTP 200 OK)
+     */
+    @Operation(summary = "회원 메모 일괄 복원", description = "회원의 삭제 대기 메모를 한 번에 복원 (MANAGER 이상)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "복원 성공"),
+            @ApiResponse(responseCode = "403", description = "복원 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "회원 없음")
+    })
+    @PostMapping("/member/{memberId}/restore")
+    public ResponseEntity<java.util.Map<String, Object>> restoreMemosByMember(
+            @PathVariable String memberId,
+            jakarta.servlet.http.HttpServletRequest servletRequest) {
+
+        String requestUserId = (String) servletRequest.getAttribute("userId");
+        String businessPlaceId = (String) servletRequest.getAttribute("defaultBusinessPlaceId");
+
+        MemoService.BulkMemoResult result = memoService.restoreAllByMember(memberId, requestUserId, businessPlaceId);
+        return ResponseEntity.ok(java.util.Map.of("restoredCount", result.affectedCount()));
+    }
+
     /**
      * 특정 사업장의 삭제 대기 메모 목록 조회
      *
@@ -621,9 +677,7 @@ public class MemoController {
         // 회원이 사용자의 사업장에 속하는지 확인
         Member member = memberService.getMemberById(memberId);
 
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), member.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), member.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 회원의 메모에 대한 접근 권한이 없습니다.");
@@ -4,10 +4,9 @@ import com.vocacrm.api.dto.request.ReservationCreateRequest;
 import com.vocacrm.api.dto.request.ReservationStatusUpdateRequest;
 import com.vocacrm.api.dto.request.ReservationUpdateRequest;
 import com.vocacrm.api.exception.AccessDeniedException;
-import com.vocacrm.api.model.AccessStatus;
 import com.vocacrm.api.model.Member;
 import com.vocacrm.api.model.Reservation;
-import com.vocacrm.api.repository.UserBusinessPlaceRepository;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
 import com.vocacrm.api.service.MemberService;
 import com.vocacrm.api.service.ReservationService;
 import jakarta.validation.Valid;
@@ -35,7 +34,7 @@ public class ReservationController {
 
     private final ReservationService reservationService;
     private final MemberService memberService;
-    private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
 
     /**
      * 예약 생성
@@ -53,9 +52,7 @@ public class ReservationController {
         String userId = (String) servletRequest.getAttribute("userId");
 
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), request.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), request.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -101,9 +98,7 @@ public class ReservationController {
         Reservation reservation = reservationService.getReservationById(UUID.fromString(id));
 
         // 예약의 사업장에 대한 접근 권한 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), reservation.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), reservation.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 예약에 대한 접근 권한이 없습니다.");
@@ -130,9 +125,7 @@ public class ReservationController {
         // 회원이 사용자의 사업장에 속하는지 확인
         Member member = memberService.getMemberById(memberId);
 
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), member.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), member.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 회원의 예약에 대한 접근 권한이 없습니다.");
@@ -158,9 +151,7 @@ public class ReservationController {
         String userId = (String) servletRequest.getAttribute("userId");
 
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -187,9 +178,7 @@ public class ReservationController {
         String userId = (String) servletRequest.getAttribute("userId");
 
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -217,9 +206,7 @@ public class ReservationController {
         String userId = (String) servletRequest.getAttribute("userId");
 
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -246,9 +233,7 @@ public class ReservationController {
         String userId = (String) servletRequest.getAttribute("userId");
 
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -278,9 +263,7 @@ public class ReservationController {
         Reservation existing = reservationService.getReservationById(UUID.fromString(id));
 
         // 예약의 사업장에 대한 접근 권한 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), existing.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), existing.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 예약에 대한 수정 권한이 없습니다.");
@@ -324,9 +307,7 @@ public class ReservationController {
         Reservation existing = reservationService.getReservationById(UUID.fromString(id));
 
         // 예약의 사업장에 대한 접근 권한 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), existing.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), existing.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 예약에 대한 상태 변경 권한이 없습니다.");
@@ -364,9 +345,7 @@ public class ReservationController {
         String userId = (String) servletRequest.getAttribute("userId");
 
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -406,9 +385,7 @@ public class ReservationController {
         // 회원이 사용자의 사업장에 속하는지 확인
         Member member = memberService.getMemberById(memberId);
 
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), member.getBusinessPlaceId(), AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), member.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 회원의 예약에 대한 접근 권한이 없습니다.");
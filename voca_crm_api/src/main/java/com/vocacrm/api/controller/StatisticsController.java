@@ -3,10 +3,10 @@ package com.vocacrm.api.controller;
 import com.vocacrm.api.dto.ChartDataDTO;
 import com.vocacrm.api.dto.HomeStatisticsDTO;
 import com.vocacrm.api.dto.RecentActivityDTO;
+import com.vocacrm.api.dto.RecentActivityPageDTO;
 import com.vocacrm.api.dto.TodayScheduleDTO;
 import com.vocacrm.api.exception.AccessDeniedException;
-import com.vocacrm.api.model.AccessStatus;
-import com.vocacrm.api.repository.UserBusinessPlaceRepository;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
 import com.vocacrm.api.service.StatisticsService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -22,14 +22,13 @@ import java.util.UUID;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
-    private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
 
     /**
      * 사업장 접근 권한 검증
      */
     private void validateUserAccessToBusinessPlace(String userId, String businessPlaceId) {
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -63,6 +62,25 @@ public class StatisticsController {
         return ResponseEntity.ok(activities);
     }
 
+    /**
+     * 최근 메모 활동 조회 (키셋 커서 페이지네이션)
+     * GET /api/statistics/recent-memos/{businessPlaceId}?limit=10&cursor=...
+     */
+    @GetMapping("/recent-memos/{businessPlaceId}")
+    public ResponseEntity<RecentActivityPageDTO> getRecentMemoActivities(
+            @PathVariable String businessPlaceId,
+            @RequestParam(required = false, defaultValue = "10") Integer limit,
+            @RequestParam(required = false) String cursor,
+            HttpServletRequest servletRequest) {
+        String userId = (String) servletRequest.getAttribute("userId");
+
+        // 사업장 접근 권한 검증
+        validateUserAccessToBusinessPlace(userId, businessPlaceId);
+
+        RecentActivityPageDTO page = statisticsService.getRecentMemoActivities(businessPlaceId, limit, cursor);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * 오늘의 예약 일정 조회
      * GET /api/statistics/today-schedule/{businessPlaceId}?limit=10
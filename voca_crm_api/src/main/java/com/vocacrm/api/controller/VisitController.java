@@ -1,9 +1,8 @@
 package com.vocacrm.api.controller;
 
 import com.vocacrm.api.exception.AccessDeniedException;
-import com.vocacrm.api.model.AccessStatus;
 import com.vocacrm.api.model.Visit;
-import com.vocacrm.api.repository.UserBusinessPlaceRepository;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
 import com.vocacrm.api.service.VisitService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -23,14 +22,13 @@ import java.util.UUID;
 public class VisitController {
 
     private final VisitService visitService;
-    private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
 
     /**
      * 사업장 접근 권한 검증
      */
     private void validateUserAccessToBusinessPlace(String userId, String businessPlaceId) {
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -2,6 +2,7 @@ package com.vocacrm.api.controller;
 
 import com.vocacrm.api.dto.VoiceCommandRequest;
 import com.vocacrm.api.dto.VoiceCommandResponse;
+import com.vocacrm.api.enums.VoicePipelineStage;
 import com.vocacrm.api.service.VoiceCommandService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,8 +11,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
 
 /**
  * 음성 명령 처리 컨트롤러
@@ -45,91 +53,164 @@ public class VoiceCommandController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청")
     })
     @PostMapping("/command")
-    public ResponseEntity<VoiceCommandResponse> processVoiceCommand(
+    public Mono<ResponseEntity<VoiceCommandResponse>> processVoiceCommand(
             @Valid @RequestBody VoiceCommandRequest request,
             jakarta.servlet.http.HttpServletRequest servletRequest) {
-        try {
-            // context가 있으면 잘못된 엔드포인트 사용 - /continue 사용 안내
-            if (request.getContext() != null && request.getContext().getCurrentStep() != null) {
-                VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
-                        .status("error")
-                        .message("대화 이어가기는 /api/voice/continue 엔드포인트를 사용해주세요.")
-                        .errorCode("WRONG_ENDPOINT")
-                        .build();
-                return ResponseEntity.badRequest().body(errorResponse);
-            }
+        // 대화 세션이 있으면 잘못된 엔드포인트 사용 - /continue 사용 안내
+        if (isContinuation(request)) {
+            VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
+                    .status("error")
+                    .message("대화 이어가기는 /api/voice/continue 엔드포인트를 사용해주세요.")
+                    .errorCode("WRONG_ENDPOINT")
+                    .build();
+            return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+        }
 
-            // JWT에서 userId 추출하여 request에 설정 (DTO의 userId는 무시)
-            String userId = (String) servletRequest.getAttribute("userId");
-            request.setUserId(userId);
+        // JWT에서 userId 추출하여 request에 설정 (DTO의 userId는 무시)
+        // 요청 속성은 비동기 처리 전에 요청 스레드에서 읽어야 함
+        String userId = (String) servletRequest.getAttribute("userId");
+        request.setUserId(userId);
 
-            VoiceCommandResponse response = voiceCommandService.processNewCommand(request);
-            return ResponseEntity.ok(response);
+        // 비동기 처리: AI 분석 대기 중 Tomcat 스레드를 반환
+        return voiceCommandService.processNewCommand(request)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("❌ Error processing voice command: {}", e.getMessage(), e);
 
-        } catch (Exception e) {
-            log.error("❌ Error processing voice command: {}", e.getMessage(), e);
+                    VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
+                            .status("error")
+                            .message("명령 처리 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_ERROR")
+                            .build();
 
+                    return Mono.just(ResponseEntity.status(500).body(errorResponse));
+                });
+    }
+
+    /**
+     * 새 음성 명령 처리 엔드포인트 - SSE 진행 이벤트 (AI 분석 필요)
+     *
+     * POST /api/voice/command/stream
+     * Request Body: { "text": "1234 회원 메모 알려줘" }
+     * Response: text/event-stream
+     * - event: stage  → { "stage": "translating|analyzing|executing", "message": "..." }
+     * - event: result → VoiceCommandResponse (마지막 이벤트)
+     *
+     * Required Headers:
+     * - Authorization: Bearer {JWT token}
+     *
+     * Note: /command와 동일한 처리이며, 앱에서 처리 단계를 즉시 표시할 수 있도록 진행 이벤트를 먼저 전송
+     *       캐시 적중 시 translating/analyzing 이벤트는 생략됨
+     */
+    @Operation(summary = "음성 명령 처리 (SSE)", description = "새 음성 명령 AI 분석 - 처리 단계를 SSE 이벤트로 전송")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이벤트 스트림 시작"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping(value = "/command/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> processVoiceCommandStream(
+            @Valid @RequestBody VoiceCommandRequest request,
+            jakarta.servlet.http.HttpServletRequest servletRequest) {
+        if (isContinuation(request)) {
             VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
                     .status("error")
-                    .message("명령 처리 중 오류가 발생했습니다.")
-                    .errorCode("INTERNAL_ERROR")
+                    .message("대화 이어가기는 /api/voice/continue 엔드포인트를 사용해주세요.")
+                    .errorCode("WRONG_ENDPOINT")
                     .build();
-
-            return ResponseEntity.status(500).body(errorResponse);
+            return Flux.just(resultEvent(errorResponse));
         }
+
+        // JWT에서 userId 추출하여 request에 설정 (DTO의 userId는 무시)
+        String userId = (String) servletRequest.getAttribute("userId");
+        request.setUserId(userId);
+
+        Sinks.Many<VoicePipelineStage> stages = Sinks.many().unicast().onBackpressureBuffer();
+
+        Flux<ServerSentEvent<Object>> progress = stages.asFlux()
+                .map(stage -> ServerSentEvent.<Object>builder(Map.of(
+                                "stage", stage.getEventName(),
+                                "message", stage.getMessage()))
+                        .event("stage")
+                        .build());
+
+        Mono<ServerSentEvent<Object>> result = voiceCommandService.processNewCommand(request, stages::tryEmitNext)
+                .onErrorResume(e -> {
+                    log.error("❌ Error processing voice command stream: {}", e.getMessage(), e);
+                    return Mono.just(VoiceCommandResponse.builder()
+                            .status("error")
+                            .message("명령 처리 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_ERROR")
+                            .build());
+                })
+                .map(this::resultEvent)
+                .doFinally(signal -> stages.tryEmitComplete());
+
+        return Flux.merge(progress, result);
+    }
+
+    /**
+     * 대화 이어가기 요청인지 확인 (conversationId 또는 이전 버전 클라이언트의 context)
+     */
+    private boolean isContinuation(VoiceCommandRequest request) {
+        return request.getConversationId() != null
+                || (request.getContext() != null && request.getContext().getCurrentStep() != null);
+    }
+
+    private ServerSentEvent<Object> resultEvent(VoiceCommandResponse response) {
+        return ServerSentEvent.<Object>builder(response)
+                .event("result")
+                .build();
     }
 
     /**
      * 대화 이어가기 엔드포인트 (AI 분석 없음)
      *
      * POST /api/voice/continue
-     * Request Body: { "text": "첫 번째", "context": {...} }
+     * Request Body: { "text": "첫 번째", "conversationId": "..." }
      * Response: VoiceCommandResponse (status, message, data, context)
      *
      * Required Headers:
      * - Authorization: Bearer {JWT token}
      *
      * Note: 이 엔드포인트는 AI 분석 없이 사용자 선택/확인만 처리
-     *       context 필수
+     *       conversationId 필수 (대화 컨텍스트는 서버에 저장됨, 만료 시 CONVERSATION_EXPIRED)
      */
     @Operation(summary = "대화 이어가기", description = "기존 대화 컨텍스트로 선택/확인 처리 (AI 분석 없음)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "처리 성공"),
-            @ApiResponse(responseCode = "400", description = "컨텍스트 누락")
+            @ApiResponse(responseCode = "400", description = "대화 세션 ID 누락")
     })
     @PostMapping("/continue")
-    public ResponseEntity<VoiceCommandResponse> continueConversation(
+    public Mono<ResponseEntity<VoiceCommandResponse>> continueConversation(
             @Valid @RequestBody VoiceCommandRequest request,
             jakarta.servlet.http.HttpServletRequest servletRequest) {
-        try {
-            // context가 없으면 에러 반환
-            if (request.getContext() == null || request.getContext().getCurrentStep() == null) {
-                VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
-                        .status("error")
-                        .message("대화 컨텍스트가 필요합니다. 새 명령은 /api/voice/command 엔드포인트를 사용해주세요.")
-                        .errorCode("MISSING_CONTEXT")
-                        .build();
-                return ResponseEntity.badRequest().body(errorResponse);
-            }
-
-            // JWT에서 userId 추출하여 request에 설정
-            String userId = (String) servletRequest.getAttribute("userId");
-            request.setUserId(userId);
-
-            VoiceCommandResponse response = voiceCommandService.processContinuedConversation(request);
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("❌ Error continuing conversation: {}", e.getMessage(), e);
-
+        // 대화 세션 ID가 없으면 에러 반환
+        if (request.resolveConversationId() == null) {
             VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
                     .status("error")
-                    .message("대화 처리 중 오류가 발생했습니다.")
-                    .errorCode("INTERNAL_ERROR")
+                    .message("대화 세션 ID가 필요합니다. 새 명령은 /api/voice/command 엔드포인트를 사용해주세요.")
+                    .errorCode("MISSING_CONTEXT")
                     .build();
-
-            return ResponseEntity.status(500).body(errorResponse);
+            return Mono.just(ResponseEntity.badRequest().body(errorResponse));
         }
+
+        // JWT에서 userId 추출하여 request에 설정
+        String userId = (String) servletRequest.getAttribute("userId");
+        request.setUserId(userId);
+
+        return voiceCommandService.processContinuedConversation(request)
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("❌ Error continuing conversation: {}", e.getMessage(), e);
+
+                    VoiceCommandResponse errorResponse = VoiceCommandResponse.builder()
+                            .status("error")
+                            .message("대화 처리 중 오류가 발생했습니다.")
+                            .errorCode("INTERNAL_ERROR")
+                            .build();
+
+                    return Mono.just(ResponseEntity.status(500).body(errorResponse));
+                });
     }
 
     /**
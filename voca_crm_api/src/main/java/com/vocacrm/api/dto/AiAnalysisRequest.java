@@ -26,7 +26,9 @@ public class AiAnalysisRequest {
     private String prompt;
 
     /**
-     * 스트리밍 여부 (false로 설정하여 전체 응답 수신)
+     * 스트리밍 여부
+     * - false: 전체 응답을 한 번에 수신
+     * - true: 토큰 단위 NDJSON 스트림 수신 (JSON 완성 시 조기 종료 가능)
      */
     private boolean stream;
 
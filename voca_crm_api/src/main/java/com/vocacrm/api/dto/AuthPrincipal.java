@@ -0,0 +1,47 @@
+package com.vocacrm.api.dto;
+
+import jakarta.servlet.ServletRequest;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 Access Token의 사용자 정보 (불변)
+ *
+ * JwtAuthenticationFilter가 요청 속성(ATTRIBUTE)에 저장합니다.
+ * 컨트롤러에서는 @RequestAttribute(AuthPrincipal.ATTRIBUTE)로 주입받을 수 있습니다.
+ *
+ * @param userId                 사용자 ID (sub)
+ * @param username               사용자 이름
+ * @param email                  이메일
+ * @param phone                  전화번호
+ * @param defaultBusinessPlaceId 기본 사업장 ID
+ * @param systemAdmin            시스템 관리자 여부
+ * @param tier                   사용자 등급 (User.tier, 등급 도입 전 발급 토큰은 null)
+ * @param expiresAt              토큰 만료 시각
+ */
+public record AuthPrincipal(
+        String userId,
+        String username,
+        String email,
+        String phone,
+        String defaultBusinessPlaceId,
+        boolean systemAdmin,
+        String tier,
+        Instant expiresAt
+) {
+
+    /**
+     * 요청 속성 이름
+     */
+    public static final String ATTRIBUTE = "authPrincipal";
+
+    /**
+     * 현재 요청의 인증 사용자
+     *
+     * @return 인증되지 않은 요청(공개 엔드포인트 등)이면 null
+     */
+    public static AuthPrincipal from(ServletRequest request) {
+        Object principal = request.getAttribute(ATTRIBUTE);
+        return principal instanceof AuthPrincipal authPrincipal ? authPrincipal : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.vocacrm.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 일일 브리핑 중요 메모 미리보기 (회원 이름 포함)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BriefingMemoDTO {
+    private UUID memoId;
+    private UUID memberId;
+    private String memberName;
+    private String content;
+    private LocalDateTime createdAt;
+}
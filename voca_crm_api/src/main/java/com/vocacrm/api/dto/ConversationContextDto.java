@@ -1,5 +1,6 @@
 package com.vocacrm.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -74,6 +75,12 @@ public class ConversationContextDTO {
      */
     private Map<String, Object> additionalData;
 
+    /**
+     * AI 분석과 병렬로 미리 조회한 회원 후보 (첫 명령 처리 중에만 사용, 저장/전송하지 않음)
+     */
+    @JsonIgnore
+    private PrefetchedMembers prefetchedMembers;
+
     /**
      * 특정 타입의 선택된 엔티티 가져오기
      */
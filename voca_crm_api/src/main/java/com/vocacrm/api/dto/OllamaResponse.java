@@ -10,6 +10,7 @@ public class OllamaResponse {
 
     /**
      * 생성된 응답 텍스트 (JSON 문자열)
+     * 스트리밍 모드에서는 토큰 조각
      */
     private String response;
 
@@ -0,0 +1,60 @@
+package com.vocacrm.api.dto;
+
+import com.vocacrm.api.model.Member;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * AI 분석과 병렬로 미리 조회한 회원 후보
+ *
+ * 원문에서 추출한 검색 조건(회원번호/이름/전화번호)별 조회 결과를 보관하며,
+ * AI가 돌려준 searchCriteria가 같은 조건일 때만 사용합니다.
+ */
+public final class PrefetchedMembers {
+
+    private static final PrefetchedMembers EMPTY = new PrefetchedMembers(Map.of());
+
+    private final Map<String, List<Member>> results;
+    private volatile boolean consulted;
+
+    public PrefetchedMembers(Map<String, List<Member>> results) {
+        this.results = Map.copyOf(results);
+    }
+
+    public static PrefetchedMembers empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 검색 조건 키 (조건이 모두 같아야 같은 조회 결과)
+     */
+    public static String key(String memberNumber, String name, String phone) {
+        return Objects.toString(memberNumber, "") + "|" + Objects.toString(name, "") + "|" + Objects.toString(phone, "");
+    }
+
+    /**
+     * 같은 검색 조건으로 미리 조회한 결과
+     *
+     * @return 조회 결과, 같은 조건으로 미리 조회하지 않았으면 empty
+     */
+    public Optional<List<Member>> find(String memberNumber, String name, String phone) {
+        consulted = true;
+        List<Member> members = results.get(key(memberNumber, name, phone));
+        return members == null ? Optional.empty() : Optional.of(new ArrayList<>(members));
+    }
+
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+
+    /**
+     * 회원 검색에 한 번이라도 조회되었는지 (false면 회원 검색이 없는 명령)
+     */
+    public boolean isConsulted() {
+        return consulted;
+    }
+}
@@ -0,0 +1,21 @@
+package com.vocacrm.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 최근 활동 페이지 (키셋 커서 기반)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecentActivityPageDTO {
+    private List<RecentActivityDTO> activities;
+    private boolean hasMore;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+}
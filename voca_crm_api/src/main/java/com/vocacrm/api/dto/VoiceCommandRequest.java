@@ -19,7 +19,14 @@ public class VoiceCommandRequest {
     private String text;
 
     /**
-     * 대화 컨텍스트 (대화형 처리를 위한 이전 상태 정보)
+     * 대화 세션 ID (/api/voice/continue)
+     * 서버에 저장된 대화 컨텍스트를 찾는 키
+     */
+    private String conversationId;
+
+    /**
+     * 대화 컨텍스트 (이전 버전 클라이언트 호환용)
+     * conversationId만 사용하며 나머지 내용은 서버에 저장된 값을 사용
      */
     private ConversationContextDTO context;
 
@@ -31,4 +38,14 @@ public class VoiceCommandRequest {
      * JWT 인증이 적용된 경우 서버에서 토큰으로부터 userId를 가져옵니다.
      */
     private String userId;
+
+    /**
+     * 대화 세션 ID (conversationId 우선, 없으면 context.conversationId)
+     */
+    public String resolveConversationId() {
+        if (conversationId != null && !conversationId.isBlank()) {
+            return conversationId;
+        }
+        return context != null ? context.getConversationId() : null;
+    }
 }
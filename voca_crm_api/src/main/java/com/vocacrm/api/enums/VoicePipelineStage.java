@@ -0,0 +1,19 @@
+package com.vocacrm.api.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 음성 명령 처리 단계
+ * SSE 진행 이벤트(/api/voice/command/stream)로 앱에 전달됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum VoicePipelineStage {
+    TRANSLATING("translating", "명령을 번역하고 있습니다."),
+    ANALYZING("analyzing", "명령을 분석하고 있습니다."),
+    EXECUTING("executing", "명령을 실행하고 있습니다.");
+
+    private final String eventName;
+    private final String message;
+}
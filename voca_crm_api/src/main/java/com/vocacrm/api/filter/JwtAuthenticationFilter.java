@@ -1,7 +1,8 @@
 package com.vocacrm.api.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.vocacrm.api.util.JwtUtil;
+import com.vocacrm.api.dto.AuthPrincipal;
+import com.vocacrm.api.service.AuthPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,13 +22,17 @@ import java.util.Map;
  *
  * 모든 API 요청에 대해 JWT 토큰을 검증합니다.
  * 인증이 필요 없는 엔드포인트(로그인, 회원가입 등)는 제외합니다.
+ *
+ * 토큰은 요청마다 한 번만 검증하며 (같은 토큰은 AuthPrincipalCache 재사용),
+ * 결과는 AuthPrincipal로 요청 속성에 저장합니다.
+ * 기존 컨트롤러용 문자열 속성(userId, username, email, defaultBusinessPlaceId, isSystemAdmin)도 함께 저장합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final AuthPrincipalCache authPrincipalCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -82,24 +87,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7); // "Bearer " 제거
 
         try {
-            // 토큰 검증
-            if (!jwtUtil.validateToken(token)) {
-                sendUnauthorizedError(response, "유효하지 않거나 만료된 토큰입니다");
-                return;
-            }
-
-            // 토큰에서 사용자 정보 추출하여 요청 속성에 저장
-            String userId = jwtUtil.extractUserId(token);
-            String username = jwtUtil.extractUsername(token);
-            String email = jwtUtil.extractEmail(token);
-            String defaultBusinessPlaceId = jwtUtil.extractDefaultBusinessPlaceId(token);
-            Boolean isSystemAdmin = jwtUtil.extractIsSystemAdmin(token);
-
-            request.setAttribute("userId", userId);
-            request.setAttribute("username", username);
-            request.setAttribute("email", email);
-            request.setAttribute("defaultBusinessPlaceId", defaultBusinessPlaceId);
-            request.setAttribute("isSystemAdmin", isSystemAdmin != null ? isSystemAdmin : false);
+            // 토큰 검증 (서명/만료 1회) 후 사용자 정보를 요청 속성에 저장
+            AuthPrincipal principal = authPrincipalCache.resolve(token);
+
+            request.setAttribute(AuthPrincipal.ATTRIBUTE, principal);
+            request.setAttribute("userId", principal.userId());
+            request.setAttribute("username", principal.username());
+            request.setAttribute("email", principal.email());
+            request.setAttribute("defaultBusinessPlaceId", principal.defaultBusinessPlaceId());
+            request.setAttribute("isSystemAdmin", principal.systemAdmin());
 
             filterChain.doFilter(request, response);
 
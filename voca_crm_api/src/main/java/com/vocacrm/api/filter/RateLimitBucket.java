@@ -0,0 +1,106 @@
+package com.vocacrm.api.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate Limit 버킷 (Sliding Window Counter, 락 없음)
+ *
+ * 현재 윈도우 요청 수에 직전 윈도우 요청 수를 남은 비율만큼 더해 추정하므로,
+ * 고정 윈도우처럼 경계 직전/직후에 제한의 2배가 허용되지 않습니다.
+ *
+ * 상태는 AtomicLong 하나에 [윈도우 번호 32비트 | 직전 윈도우 수 16비트 | 현재 윈도우 수 16비트]로 저장하고
+ * CAS로 갱신합니다. 시간은 단조 증가 시계(System.nanoTime)를 호출자가 한 번 읽어 전달합니다.
+ * 윈도우 경계에서 늦게 도착한 이전 윈도우 호출도 상태를 이전 윈도우로 되돌리지 않습니다.
+ * 가중치 계산은 밀리초 단위로 하여 긴 윈도우(최대 Integer.MAX_VALUE초)에서도 long 범위를 넘지 않습니다.
+ */
+public final class RateLimitBucket {
+
+    /**
+     * 윈도우당 최대 요청 수 (16비트 카운터)
+     */
+    public static final int MAX_LIMIT = 0xFFFF;
+
+    private static final long COUNT_MASK = 0xFFFFL;
+
+    private final AtomicLong state = new AtomicLong();
+    private final int limit;
+    private final long periodNanos;
+    private final long periodMillis;
+
+    /**
+     * 윈도우 번호 기준 시각 (이 시각부터 periodNanos 단위로 윈도우 구분)
+     */
+    private final long originNanos;
+
+    public RateLimitBucket(int limit, int periodSeconds, long nowNanos) {
+        this.limit = Math.min(Math.max(limit, 0), MAX_LIMIT);
+        this.periodNanos = TimeUnit.SECONDS.toNanos(Math.max(periodSeconds, 1));
+        this.periodMillis = TimeUnit.NANOSECONDS.toMillis(periodNanos);
+        this.originNanos = nowNanos;
+    }
+
+    /**
+     * 요청 허용 여부 확인 및 카운트 증가
+     *
+     * @param nowNanos System.nanoTime() 값
+     * @return 허용되면 남은 요청 수 (0 이상), 제한 초과면 -1
+     */
+    public int tryConsume(long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - originNanos);
+        int nowWindow = (int) (elapsed / periodNanos);
+        long intoWindow = elapsed % periodNanos;
+        long nowRemainingWeight = TimeUnit.NANOSECONDS.toMillis(periodNanos - intoWindow);
+
+        while (true) {
+            long current = state.get();
+            int stateWindow = (int) (current >>> 32);
+            long previousCount = (current >>> 16) & COUNT_MASK;
+            long currentCount = current & COUNT_MASK;
+
+            int window = nowWindow;
+            long remainingWeight = nowRemainingWeight;
+            if (window < stateWindow) {
+                // 다른 스레드가 이미 다음 윈도우로 넘긴 경우: 상태를 되돌리지 않고 저장된 윈도우 시작 시점으로 평가
+                window = stateWindow;
+                remainingWeight = periodMillis;
+            } else if (stateWindow != window) {
+                // 바로 다음 윈도우면 현재 수가 직전 수가 되고, 그 이상 지났으면 둘 다 0
+                previousCount = window - stateWindow == 1 ? currentCount : 0;
+                currentCount = 0;
+            }
+
+            // previous * (남은 비율) + current < limit (정수 연산: 양변에 periodMillis 곱함)
+            long weighted = previousCount * remainingWeight + currentCount * periodMillis;
+            if (weighted + periodMillis > limit * periodMillis) {
+                return -1;
+            }
+
+            long next = ((long) window << 32) | (previousCount << 16) | (currentCount + 1);
+            if (state.compareAndSet(current, next)) {
+                return (int) Math.max(0, limit - (weighted + periodMillis + periodMillis - 1) / periodMillis);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 현재 윈도우가 끝날 때까지 남은 시간 (초, 최소 1)
+     */
+    public long getSecondsUntilReset(long nowNanos) {
+        long intoWindow = Math.max(0, nowNanos - originNanos) % periodNanos;
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(periodNanos - intoWindow + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * 마지막 요청 후 2개 윈도우 이상 지나 카운트가 모두 소멸했는지 (정리용)
+     */
+    public boolean isStale(long nowNanos) {
+        int window = (int) (Math.max(0, nowNanos - originNanos) / periodNanos);
+        int stateWindow = (int) (state.get() >>> 32);
+        return window - stateWindow >= 2;
+    }
+}
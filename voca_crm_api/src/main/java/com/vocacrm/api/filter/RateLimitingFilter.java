@@ -2,6 +2,11 @@ package com.vocacrm.api.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vocacrm.api.config.RateLimitConfig;
+import com.vocacrm.api.dto.AuthPrincipal;
+import com.vocacrm.api.service.AuthPrincipalCache;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
+import com.vocacrm.api.service.DistributedRateLimiter;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,16 +22,23 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Instant;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * Rate Limiting 필터
  *
- * IP 주소와 엔드포인트 유형별로 요청 횟수를 제한합니다.
- * Sliding Window Counter 알고리즘을 사용합니다.
+ * 엔드포인트 유형별로 요청 횟수를 제한합니다.
+ * - 인증된 요청: Bearer 토큰의 사용자별 한도(등급 배율) + 사업장 합산 한도
+ * - 인증 엔드포인트와 비인증 요청: IP별 한도
+ * JwtAuthenticationFilter보다 먼저 실행되므로 토큰은 AuthPrincipalCache로 직접 확인합니다.
+ * Sliding Window Counter 알고리즘을 사용합니다 (RateLimitBucket, 락 없는 CAS 갱신).
+ * 분산 모드에서는 Redis로 모든 노드가 한도를 공유하고, Redis 장애 시 노드별 로컬 한도를 사용합니다.
  *
  * 제한 초과 시 429 (Too Many Requests) 응답을 반환합니다.
  */
@@ -37,13 +49,22 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimitConfig rateLimitConfig;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final AuthPrincipalCache authPrincipalCache;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * Rate Limit 버킷 저장소
-     * Key: "clientId:endpointType" (예: "ip:192.168.1.1:AUTH")
+     * Rate Limit 버킷 저장소 (엔드포인트 유형별)
+     * 요청마다 "clientId:endpointType" 키 문자열을 만들지 않도록 유형/대상별 맵에 userId/사업장 ID/IP를 그대로 키로 사용
      */
-    private final ConcurrentHashMap<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<EndpointType, BucketTable<RateLimitBucket>> buckets = createBucketTables();
+
+    /**
+     * 분산 모드 클라이언트 상태 (Redis near-cache)
+     */
+    private final Map<EndpointType, BucketTable<DistributedRateLimiter.ClientState>> distributedStates =
+            createBucketTables();
 
     /**
      * 엔드포인트 유형
@@ -51,7 +72,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     private enum EndpointType {
         AUTH,       // 인증 관련 (로그인, 회원가입, 토큰 갱신)
         SEARCH,     // 검색 API
-        VOICE_AI,   // 음성 명령 AI 분석 (/api/voice/command) - 보수적 제한
+        VOICE_AI,   // 음성 명령 AI 분석 (/api/voice/command, /api/voice/command/stream) - 보수적 제한
         VOICE,      // 음성 명령 기타 (/api/voice/continue, /api/voice/daily-briefing 등)
         ERROR_LOG,  // 오류 로그 POST (비인증 허용, 보수적 제한)
         API,        // 일반 API
@@ -59,65 +80,53 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 간단한 Rate Limit 버킷 (Sliding Window Counter)
+     * 한도 적용 대상
      */
-    private static class RateLimitBucket {
-        private final AtomicInteger count = new AtomicInteger(0);
-        private volatile long windowStart;
-        private final int limit;
-        private final int windowSeconds;
-
-        RateLimitBucket(int limit, int windowSeconds) {
-            this.limit = limit;
-            this.windowSeconds = windowSeconds;
-            this.windowStart = Instant.now().getEpochSecond();
-        }
-
-        /**
-         * 요청 허용 여부 확인 및 카운트 증가
-         * @return 허용되면 true, 제한 초과면 false
-         */
-        synchronized boolean tryConsume() {
-            long now = Instant.now().getEpochSecond();
+    private enum ClientScope {
+        USER,            // 인증 사용자 (등급 배율 적용)
+        BUSINESS_PLACE,  // 사업장 합산 (소속 직원 전체)
+        IP               // 비인증 요청
+    }
 
-            // 윈도우가 만료되면 리셋
-            if (now - windowStart >= windowSeconds) {
-                count.set(0);
-                windowStart = now;
-            }
+    /**
+     * 엔드포인트 유형별 버킷 (대상별로 맵을 분리해 키 충돌 방지)
+     */
+    private static final class BucketTable<T> {
+        private final Map<ClientScope, ConcurrentHashMap<String, T>> maps = new EnumMap<>(ClientScope.class);
 
-            // 제한 확인
-            if (count.get() >= limit) {
-                return false;
+        BucketTable() {
+            for (ClientScope scope : ClientScope.values()) {
+                maps.put(scope, new ConcurrentHashMap<>());
             }
-
-            count.incrementAndGet();
-            return true;
         }
 
         /**
-         * 남은 요청 수
+         * 버킷 조회 또는 생성 (등급 변경 등으로 한도가 바뀌었으면 새 버킷으로 교체)
          */
-        int getRemaining() {
-            return Math.max(0, limit - count.get());
+        T get(ClientScope scope, String key, int limit, ToIntFunction<T> limitOf, Function<String, T> factory) {
+            ConcurrentHashMap<String, T> map = maps.get(scope);
+            T bucket = map.get(key);
+            if (bucket != null && limitOf.applyAsInt(bucket) == limit) {
+                return bucket;
+            }
+            return map.compute(key, (k, old) -> old != null && limitOf.applyAsInt(old) == limit ? old : factory.apply(k));
         }
 
-        /**
-         * 윈도우 리셋까지 남은 시간 (초)
-         */
-        long getSecondsUntilReset() {
-            long now = Instant.now().getEpochSecond();
-            long elapsed = now - windowStart;
-            return Math.max(1, windowSeconds - elapsed);
+        void removeIf(Predicate<T> stale) {
+            for (ConcurrentHashMap<String, T> map : maps.values()) {
+                map.values().removeIf(stale);
+            }
         }
+    }
 
-        /**
-         * 버킷이 오래되었는지 확인 (정리용)
-         */
-        boolean isStale() {
-            long now = Instant.now().getEpochSecond();
-            // 윈도우 시간의 3배 이상 지났으면 오래된 것으로 판단
-            return (now - windowStart) > (windowSeconds * 3L);
+    /**
+     * 버킷 확인 결과
+     *
+     * @param remaining 남은 요청 수, 제한 초과면 음수
+     */
+    private record Outcome(ClientScope scope, int limit, int remaining, long resetSeconds) {
+        boolean allowed() {
+            return remaining >= 0;
         }
     }
 
@@ -149,33 +158,123 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 클라이언트 식별 (IP 또는 인증된 사용자)
-        String clientId = extractClientId(request);
-        String bucketKey = clientId + ":" + endpointType.name();
+        // 클라이언트 식별: Bearer 토큰의 사용자 (인증 엔드포인트와 비인증 요청은 IP)
+        AuthPrincipal principal = endpointType == EndpointType.AUTH ? null : resolvePrincipal(request);
+        String clientIp = principal == null ? extractClientIp(request) : null;
 
-        // 버킷 가져오기 또는 생성
+        long now = System.nanoTime();
         RateLimitConfig.EndpointLimit limitConfig = getLimitConfig(endpointType);
-        RateLimitBucket bucket = buckets.computeIfAbsent(bucketKey,
-                key -> new RateLimitBucket(limitConfig.getRequests(), limitConfig.getPeriodSeconds()));
+        int periodSeconds = limitConfig.getPeriodSeconds();
+        Outcome outcome;
+        String businessPlaceId = null;
+
+        if (principal == null) {
+            outcome = consume(endpointType, ClientScope.IP, clientIp, scale(limitConfig.getRequests(), 1.0),
+                    periodSeconds, now);
+        } else {
+            // 사용자별 한도 (등급 배율) → 사업장 합산 한도
+            int userLimit = scale(limitConfig.getRequests(),
+                    rateLimitConfig.getTierMultipliers().getOrDefault(principal.tier(), 1.0));
+            outcome = consume(endpointType, ClientScope.USER, principal.userId(), userLimit, periodSeconds, now);
+
+            RateLimitConfig.BusinessPlaceLimit businessPlaceLimit = rateLimitConfig.getBusinessPlace();
+            businessPlaceId = businessPlaceLimit.isEnabled() ? resolveBusinessPlaceId(request, principal) : null;
+            if (outcome.allowed() && businessPlaceId != null) {
+                // 사업장 한도는 기본 한도 기준 (요청자 등급에 따라 바뀌면 공유 버킷이 교체되어 초기화됨)
+                Outcome shared = consume(endpointType, ClientScope.BUSINESS_PLACE, businessPlaceId,
+                        scale(limitConfig.getRequests(), businessPlaceLimit.getMultiplier()), periodSeconds, now);
+                // 헤더에는 더 적게 남은 쪽을 표시
+                if (shared.remaining() < outcome.remaining()) {
+                    outcome = shared;
+                }
+            }
+        }
 
         // 요청 허용 여부 확인
-        if (bucket.tryConsume()) {
+        if (outcome.allowed()) {
             // 요청 허용 - Rate Limit 정보를 헤더에 추가
-            response.setHeader("X-RateLimit-Limit", String.valueOf(limitConfig.getRequests()));
-            response.setHeader("X-RateLimit-Remaining", String.valueOf(bucket.getRemaining()));
-            response.setHeader("X-RateLimit-Reset", String.valueOf(bucket.getSecondsUntilReset()));
+            response.setHeader("X-RateLimit-Limit", String.valueOf(outcome.limit()));
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(outcome.remaining()));
+            response.setHeader("X-RateLimit-Reset", String.valueOf(outcome.resetSeconds()));
             filterChain.doFilter(request, response);
         } else {
             // 요청 거부 - 429 응답
-            long retryAfter = bucket.getSecondsUntilReset();
+            log.warn("Rate limit exceeded for client: {}, scope: {}, endpoint: {}, URI: {}",
+                    principal != null ? "user:" + principal.userId() + " bp:" + businessPlaceId : "ip:" + clientIp,
+                    outcome.scope(), endpointType, requestURI);
+
+            sendRateLimitExceeded(response, outcome.resetSeconds(), outcome.limit());
+        }
+    }
+
+    /**
+     * 버킷 확인 및 카운트 증가 (분산 모드면 Redis 공유 한도, Redis 장애 또는 비활성화 시 로컬 한도)
+     */
+    private Outcome consume(EndpointType type, ClientScope scope, String key, int limit, int periodSeconds, long now) {
+        if (distributedRateLimiter.isEnabled()) {
+            DistributedRateLimiter.ClientState state = distributedStates.get(type).get(scope, key, limit,
+                    DistributedRateLimiter.ClientState::getLimit,
+                    k -> distributedRateLimiter.newState(type.name() + ":" + scope.name(), k, limit, periodSeconds));
+            int remaining = distributedRateLimiter.tryConsume(state, now);
+            if (remaining != DistributedRateLimiter.UNAVAILABLE) {
+                return new Outcome(scope, limit, remaining, state.getSecondsUntilReset(now));
+            }
+        }
 
-            log.warn("Rate limit exceeded for client: {}, endpoint: {}, URI: {}",
-                    clientId, endpointType, requestURI);
+        RateLimitBucket bucket = buckets.get(type).get(scope, key, limit, RateLimitBucket::getLimit,
+                k -> new RateLimitBucket(limit, periodSeconds, now));
+        return new Outcome(scope, limit, bucket.tryConsume(now), bucket.getSecondsUntilReset(now));
+    }
 
-            sendRateLimitExceeded(response, retryAfter, limitConfig.getRequests());
+    /**
+     * Bearer 토큰에서 사용자 확인 (JwtAuthenticationFilter보다 먼저 실행되므로 AuthPrincipalCache로 직접 검증)
+     *
+     * @return 토큰이 없거나 유효하지 않으면 null (IP 기준 제한, 인증 오류는 JwtAuthenticationFilter가 응답)
+     */
+    private AuthPrincipal resolvePrincipal(HttpServletRequest request) {
+        AuthPrincipal principal = AuthPrincipal.from(request);
+        if (principal != null) {
+            return principal;
+        }
+
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+
+        try {
+            return authPrincipalCache.resolve(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
+    /**
+     * 합산 한도를 적용할 사업장 (X-Business-Place-Id 헤더가 소속 사업장이면 그 사업장, 아니면 기본 사업장)
+     * 헤더는 클라이언트가 보내는 값이므로 소속을 확인해 다른 사업장 한도를 소진시키지 못하게 함
+     */
+    private String resolveBusinessPlaceId(HttpServletRequest request, AuthPrincipal principal) {
+        String defaultBusinessPlaceId = principal.defaultBusinessPlaceId();
+        String requested = request.getHeader("X-Business-Place-Id");
+        if (requested == null || requested.equals(defaultBusinessPlaceId)) {
+            return defaultBusinessPlaceId;
+        }
+
+        try {
+            UUID userId = UUID.fromString(principal.userId());
+            return businessPlacePermissionCache.hasAccess(userId, requested) ? requested : defaultBusinessPlaceId;
+        } catch (IllegalArgumentException e) {
+            return defaultBusinessPlaceId;
+        }
+    }
+
+    /**
+     * 배율 적용 한도 (RateLimitBucket 최대값 이하)
+     */
+    private static int scale(int requests, double multiplier) {
+        return (int) Math.min(RateLimitBucket.MAX_LIMIT, Math.max(0, Math.round(requests * multiplier)));
+    }
+
     /**
      * URI에 따른 엔드포인트 유형 결정
      */
@@ -202,8 +301,8 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             return EndpointType.SEARCH;
         }
 
-        // 음성 명령 AI 분석 (보수적 제한) - DeepL + AI 사용
-        if (uri.equals("/api/voice/command")) {
+        // 음성 명령 AI 분석 (보수적 제한) - DeepL + AI 사용 (SSE 스트림 포함)
+        if (uri.equals("/api/voice/command") || uri.equals("/api/voice/command/stream")) {
             return EndpointType.VOICE_AI;
         }
 
@@ -217,16 +316,9 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 클라이언트 ID 추출 (IP 주소 기반)
+     * 클라이언트 IP 추출 (프록시 헤더 확인)
      */
-    private String extractClientId(HttpServletRequest request) {
-        // 인증된 사용자가 있으면 userId 사용 (더 정확한 제한)
-        String userId = (String) request.getAttribute("userId");
-        if (userId != null) {
-            return "user:" + userId;
-        }
-
-        // IP 주소 추출 (프록시 헤더 확인)
+    private String extractClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
             ip = request.getHeader("X-Real-IP");
@@ -235,11 +327,14 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             ip = request.getRemoteAddr();
         }
         // 여러 IP가 있으면 첫 번째 사용
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
+        if (ip != null) {
+            int comma = ip.indexOf(',');
+            if (comma >= 0) {
+                ip = ip.substring(0, comma).trim();
+            }
         }
 
-        return "ip:" + ip;
+        return ip != null ? ip : "unknown";
     }
 
     /**
@@ -287,10 +382,20 @@ public class RateLimitingFilter extends OncePerRequestFilter {
      */
     @Scheduled(fixedRate = 300000)
     public void cleanupStaleBuckets() {
-        if (buckets.isEmpty()) {
-            return;
+        long now = System.nanoTime();
+        for (BucketTable<RateLimitBucket> table : buckets.values()) {
+            table.removeIf(bucket -> bucket.isStale(now));
         }
+        for (BucketTable<DistributedRateLimiter.ClientState> table : distributedStates.values()) {
+            table.removeIf(state -> state.isStale(now));
+        }
+    }
 
-        buckets.entrySet().removeIf(entry -> entry.getValue().isStale());
+    private static <T> Map<EndpointType, BucketTable<T>> createBucketTables() {
+        Map<EndpointType, BucketTable<T>> tables = new EnumMap<>(EndpointType.class);
+        for (EndpointType type : EndpointType.values()) {
+            tables.put(type, new BucketTable<>());
+        }
+        return tables;
     }
 }
@@ -2,9 +2,18 @@ package com.vocacrm.api.repository;
 
 import com.vocacrm.api.model.BusinessPlace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BusinessPlaceRepository extends JpaRepository<BusinessPlace, String> {
     boolean existsById(String id);
+
+    /**
+     * 전체 사업장 ID 목록 (브리핑 사전 계산용)
+     */
+    @Query("SELECT b.id FROM BusinessPlace b")
+    List<String> findAllIds();
 }
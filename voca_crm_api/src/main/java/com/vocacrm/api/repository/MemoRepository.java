@@ -2,8 +2,10 @@ package com.vocacrm.api.repository;
 
 import java.util.UUID;
 
+import com.vocacrm.api.dto.BriefingMemoDTO;
 import com.vocacrm.api.model.Memo;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -313,4 +315,32 @@ public interface MemoRepository extends JpaRepository<Memo, UUID> {
             @Param("memberId") UUID memberId,
             @Param("businessPlaceId") String businessPlaceId
     );
-}
\ No newline at end of file
+
+    // ===== 일일 브리핑 =====
+
+    /**
+     * 사업장의 중요 메모 수 (삭제되지 않은 회원의 삭제되지 않은 메모)
+     * idx_memos_member_important 사용
+     */
+    @Query("SELECT COUNT(m) FROM Memo m JOIN m.member mem " +
+           "WHERE mem.businessPlaceId = :businessPlaceId " +
+           "AND mem.isDeleted = false " +
+           "AND m.isImportant = true " +
+           "AND m.isDeleted = false")
+    long countImportantByBusinessPlaceId(@Param("businessPlaceId") String businessPlaceId);
+
+    /**
+     * 사업장의 최근 중요 메모 (회원 이름 포함, 개수는 Pageable로 제한)
+     */
+    @Query("SELECT new com.vocacrm.api.dto.BriefingMemoDTO(m.id, m.memberId, mem.name, m.content, m.createdAt) " +
+           "FROM Memo m JOIN m.member mem " +
+           "WHERE mem.businessPlaceId = :businessPlaceId " +
+           "AND mem.isDeleted = false " +
+           "AND m.isImportant = true " +
+           "AND m.isDeleted = false " +
+           "ORDER BY m.createdAt DESC")
+    List<BriefingMemoDTO> findRecentImportantByBusinessPlaceId(
+            @Param("businessPlaceId") String businessPlaceId,
+            Pageable pageable
+    );
+}
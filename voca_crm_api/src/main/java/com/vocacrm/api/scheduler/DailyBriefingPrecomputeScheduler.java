@@ -0,0 +1,35 @@
+package com.vocacrm.api.scheduler;
+
+import com.vocacrm.api.service.DailyBriefingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 브리핑 사전 계산 스케줄러
+ *
+ * 영업 시작 전에 전체 사업장 브리핑을 미리 계산하여 첫 조회도 캐시에서 응답합니다.
+ *
+ * 설정:
+ * - voice.briefing.precompute-cron: 실행 주기 (기본값 "-": 비활성화, 한국 시간 기준)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyBriefingPrecomputeScheduler {
+
+    private final DailyBriefingService dailyBriefingService;
+
+    @Scheduled(cron = "${voice.briefing.precompute-cron:-}", zone = "Asia/Seoul")
+    public void precomputeBriefings() {
+        long start = System.currentTimeMillis();
+
+        try {
+            int computed = dailyBriefingService.precomputeAll();
+            log.info("[BriefingPrecompute] Computed {} briefings in {}ms", computed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[BriefingPrecompute] Failed: {}", e.getMessage(), e);
+        }
+    }
+}
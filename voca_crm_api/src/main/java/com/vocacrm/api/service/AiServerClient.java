@@ -1,26 +1,41 @@
 package com.vocacrm.api.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vocacrm.api.dto.AiAnalysisRequest;
 import com.vocacrm.api.dto.AiAnalysisResult;
 import com.vocacrm.api.dto.OllamaResponse;
+import com.vocacrm.api.enums.VoicePipelineStage;
+import com.vocacrm.api.util.AiResponseJsonExtractor;
+import com.vocacrm.api.util.StreamingJsonObjectScanner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * AI 서버 (Ollama) 통신 클라이언트
  * Modelfile.txt에서 정의한 JSON 형식 응답을 파싱
+ *
+ * ai.cascade.enabled=true면 작은 모델로 먼저 분석하고, IntentCascade 판정을 통과하지 못한 경우에만 큰 모델을 호출합니다.
  */
 @Slf4j
 @Service
@@ -28,9 +43,16 @@ import java.util.regex.Pattern;
 public class AiServerClient {
 
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private final AiResponseJsonExtractor aiResponseJsonExtractor;
     private final DeepLTranslationService translationService;
     private final DailyAiUsageLimiter dailyAiUsageLimiter;
+    private final IntentCache intentCache;
+    private final Scheduler voiceScheduler;
+    private final UpstreamResilience upstreamResilience;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final VoicePipelineMetrics voicePipelineMetrics;
+    private final IntentCascade intentCascade;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
@@ -41,206 +63,367 @@ public class AiServerClient {
     @Value("${ai.server.timeout}")
     private int timeout;
 
-    // JSON 추출을 위한 정규식 패턴
-    private static final Pattern JSON_PATTERN = Pattern.compile("\\{[^{}]*(?:\\{[^{}]*\\}[^{}]*)*\\}");
-    private static final Pattern CODE_BLOCK_PATTERN = Pattern.compile("```(?:json)?\\s*([\\s\\S]*?)```");
+    /**
+     * 스트리밍 모드 사용 여부
+     * true: 토큰 스트림을 받으며 category를 포함한 JSON 객체가 완성되는 즉시 생성 중단
+     */
+    @Value("${ai.server.streaming:true}")
+    private boolean streaming;
+
+    // 재시도 설정 (최초 시도 + 2회 재시도, 500ms부터 지수 백오프)
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private static final int NUM_PREDICT = 128;
+
+    /**
+     * 진행 중인 분석 (키: 정규화한 명령 텍스트)
+     */
+    private final Map<String, InFlightAnalysis> inFlight = new ConcurrentHashMap<>();
+
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    public void init() {
+        coalescedCounter = Counter.builder("ai.analysis.coalesced")
+                .description("진행 중인 동일 분석에 합류하여 DeepL/Ollama 호출을 생략한 요청 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("ai.analysis.inflight", Tags.empty(), inFlight);
+    }
 
     /**
      * AI 서버에 텍스트를 전송하여 명령 분석 수행
      *
+     * 번역 → AI 분석을 하나의 논블로킹 체인으로 실행합니다.
+     * 캐시/사용량 확인(Redis)만 음성 파이프라인 전용 스케줄러에서 실행되며,
+     * DeepL/Ollama 응답 대기 중에는 어떤 스레드도 점유하지 않습니다.
+     *
+     * 정규화한 텍스트가 같은 분석이 이미 진행 중이면 새로 호출하지 않고 그 결과를 공유합니다.
+     * 일일 사용량은 처음 분석을 시작한 요청만 차감합니다.
+     *
      * @param text 사용자 음성 명령 텍스트
      * @return AI가 분석한 결과 (JSON 파싱)
      */
-    public AiAnalysisResult analyzeCommand(String text) {
-        // 일일 사용량 제한 체크
-        if (!dailyAiUsageLimiter.tryConsume()) {
-            log.warn("Daily AI usage limit exceeded. Current: {}, Max: {}",
-                    dailyAiUsageLimiter.getCurrentUsage(),
-                    dailyAiUsageLimiter.getMaxDailyRequests());
-            return createDailyLimitExceededResult();
+    public Mono<AiAnalysisResult> analyzeCommand(String text) {
+        return analyzeCommand(text, stage -> { });
+    }
+
+    /**
+     * AI 서버에 텍스트를 전송하여 명령 분석 수행 (진행 단계 알림 포함)
+     *
+     * @param text 사용자 음성 명령 텍스트
+     * @param stageListener 번역/분석 단계 시작 시 호출되는 리스너 (캐시 적중 시 호출되지 않음)
+     * @return AI가 분석한 결과 (JSON 파싱)
+     */
+    public Mono<AiAnalysisResult> analyzeCommand(String text, Consumer<VoicePipelineStage> stageListener) {
+        if (text == null) {
+            return analyze(null, stageListener);
         }
 
-        // DeepL API를 사용하여 한국어 텍스트를 영어로 번역
-        String translatedText = translationService.translateToEnglish(text);
-        log.debug("Original text: '{}', Translated text: '{}'", text, translatedText);
+        return Mono.defer(() -> {
+            String key = TranslationCache.normalize(text);
 
-        // 상세 옵션 설정 (무작위성 제거)
-        Map<String, Object> options = new HashMap<>();
-        options.put("temperature", 0.0);
-        options.put("num_predict", 128);
+            boolean[] leader = {false};
+            InFlightAnalysis analysis = inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return startAnalysis(k, text);
+            });
 
-        // 모델이 인식하기 좋게 프롬프트 가공 (Prefix/Suffix 추가)
-        String optimizedPrompt = String.format("Input: \"%s\"\nOutput:", translatedText);
+            if (!leader[0]) {
+                coalescedCounter.increment();
+                log.debug("Coalesced with in-flight analysis: '{}'", text);
+            }
+            analysis.listeners().add(stageListener);
 
-        // 요청 객체 빌드
-        AiAnalysisRequest request = AiAnalysisRequest.builder()
-                .model(modelName)
-                .prompt(optimizedPrompt)
-                .stream(false)
-                .format("json")
-                .options(options)
-                .build();
+            // 같은 결과 객체를 여러 요청이 공유하지 않도록 구독자마다 복사본 전달
+            return analysis.result().map(this::copy);
+        });
+    }
 
-        int maxRetries = 2;
-        Exception lastException = null;
-
-        for (int attempt = 0; attempt <= maxRetries; attempt++) {
-            try {
-                OllamaResponse response = webClient.post()
-                        .uri(aiServerUrl + "/api/generate")
-                        .bodyValue(request)
-                        .retrieve()
-                        .bodyToMono(OllamaResponse.class)
-                        .timeout(Duration.ofMillis(timeout))
-                        .block();
-
-                if (response == null || response.getResponse() == null) {
-                    log.warn("AI server returned null response (attempt {})", attempt + 1);
-                    continue;
-                }
-
-                // JSON 문자열을 AiAnalysisResult로 파싱
-                AiAnalysisResult result = parseAiResponse(response.getResponse());
-
-                if (result != null && result.getCategory() != null) {
-                    return result;
-                }
-
-                log.warn("Parsed result is incomplete (attempt {})", attempt + 1);
-
-            } catch (WebClientResponseException e) {
-                log.warn("AI server HTTP error (attempt {}): {} - {}", attempt + 1, e.getStatusCode(), e.getMessage());
-                lastException = e;
-            } catch (Exception e) {
-                log.warn("AI server error (attempt {}): {}", attempt + 1, e.getMessage());
-                lastException = e;
-            }
+    /**
+     * 새 분석 시작 (리더 요청)
+     * 진행 단계는 합류한 모든 요청의 리스너에 전달하며, 완료되면 진행 중 목록에서 제거합니다.
+     */
+    private InFlightAnalysis startAnalysis(String key, String text) {
+        List<Consumer<VoicePipelineStage>> listeners = new CopyOnWriteArrayList<>();
+        Consumer<VoicePipelineStage> broadcast = stage -> listeners.forEach(listener -> listener.accept(stage));
 
-            // 재시도 전 대기
-            if (attempt < maxRetries) {
-                try {
-                    Thread.sleep(500 * (attempt + 1));
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        }
+        Mono<AiAnalysisResult> result = analyze(text, broadcast)
+                .doFinally(signal -> inFlight.remove(key))
+                // 요청 하나가 취소되어도 합류한 다른 요청을 위해 분석은 계속 진행
+                .cache();
 
-        // 모든 시도 실패 시 에러 응답 반환
-        log.error("All AI server attempts failed");
-        return createErrorResult("AI 서버 응답을 받을 수 없습니다.", lastException);
+        return new InFlightAnalysis(result, listeners);
     }
 
     /**
-     * AI 응답 JSON 문자열을 AiAnalysisResult 객체로 파싱
+     * 캐시 조회 → 일일 사용량 차감 → 번역 → AI 분석
      */
-    private AiAnalysisResult parseAiResponse(String rawResponse) {
-        if (rawResponse == null || rawResponse.trim().isEmpty()) {
-            return createErrorResult("AI 응답이 비어있습니다.", null);
-        }
+    private Mono<AiAnalysisResult> analyze(String text, Consumer<VoicePipelineStage> stageListener) {
+        return Mono.fromCallable(() -> Optional.ofNullable(translationService.getCachedTranslation(text)))
+                .subscribeOn(voiceScheduler)
+                .flatMap(cachedTranslation -> {
+                    // 번역 캐시에 있으면 DeepL 호출 없이 의도 캐시 조회
+                    // 캐시 적중 시 일일 사용량을 차감하지 않음 (DeepL/LLM 호출 없음)
+                    if (cachedTranslation.isPresent()) {
+                        AiAnalysisResult cached = intentCache.get(intentCascade.cacheModel(modelName),
+                                buildPrompt(cachedTranslation.get()));
+                        if (cached != null) {
+                            log.debug("Intent cache hit: '{}'", text);
+                            return Mono.just(cached);
+                        }
+                    }
+
+                    // 일일 사용량 제한 체크
+                    if (!dailyAiUsageLimiter.tryConsume()) {
+                        log.warn("Daily AI usage limit exceeded. Current: {}, Max: {}",
+                                dailyAiUsageLimiter.getCurrentUsage(),
+                                dailyAiUsageLimiter.getMaxDailyRequests());
+                        return Mono.just(createDailyLimitExceededResult());
+                    }
+
+                    // DeepL API를 사용하여 한국어 텍스트를 영어로 번역
+                    Mono<String> translation = cachedTranslation
+                            .map(Mono::just)
+                            .orElseGet(() -> {
+                                stageListener.accept(VoicePipelineStage.TRANSLATING);
+                                return voicePipelineMetrics.time(VoicePipelineMetrics.STAGE_TRANSLATE,
+                                        translationService.requestTranslation(text));
+                            });
+
+                    return translation.flatMap(translatedText -> {
+                        log.debug("Original text: '{}', Translated text: '{}'", text, translatedText);
+                        return analyzeTranslated(text, translatedText, stageListener);
+                    });
+                });
+    }
 
-        String jsonString = extractJsonFromResponse(rawResponse);
+    /**
+     * 번역된 텍스트로 Ollama 분석 요청 (2단계 분석 사용 시 작은 모델 먼저)
+     */
+    private Mono<AiAnalysisResult> analyzeTranslated(String text, String translatedText,
+                                                     Consumer<VoicePipelineStage> stageListener) {
+        // 모델이 인식하기 좋게 프롬프트 가공 (Prefix/Suffix 추가)
+        String optimizedPrompt = buildPrompt(translatedText);
+        String cacheModel = intentCascade.cacheModel(modelName);
 
-        if (jsonString == null) {
-            log.error("Could not extract JSON from AI response: {}", rawResponse);
-            return createErrorResult("AI 응답에서 JSON을 추출할 수 없습니다.", null);
+        AiAnalysisResult cached = intentCache.get(cacheModel, optimizedPrompt);
+        if (cached != null) {
+            log.debug("Intent cache hit after translation: '{}'", text);
+            return Mono.just(cached);
         }
 
-        try {
-            return objectMapper.readValue(jsonString, AiAnalysisResult.class);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse JSON: {} - Error: {}", jsonString, e.getMessage());
-            return createErrorResult("AI 응답 JSON 파싱 오류: " + e.getMessage(), e);
-        }
+        stageListener.accept(VoicePipelineStage.ANALYZING);
+
+        Mono<AiAnalysisResult> analysis = intentCascade.isEnabled()
+                ? analyzeWithCascade(translatedText, optimizedPrompt)
+                : analyzeWithModel(optimizedPrompt);
+
+        // 에러 결과는 IntentCache에서 저장하지 않음
+        return analysis.doOnNext(result -> intentCache.put(cacheModel, optimizedPrompt, result));
     }
 
     /**
-     * AI 응답에서 JSON 문자열 추출
-     * 다양한 형식의 응답을 처리
+     * 작은 모델로 분석 후 판정을 통과하지 못하면 큰 모델로 다시 분석
+     * 작은 모델은 재시도하지 않으며 (큰 모델 호출이 재시도 역할), 실패/타임아웃도 큰 모델로 전환합니다.
      */
-    private String extractJsonFromResponse(String response) {
-        String cleaned = response.trim();
-
-        // 1. 코드블록 내의 JSON 추출
-        Matcher codeBlockMatcher = CODE_BLOCK_PATTERN.matcher(cleaned);
-        if (codeBlockMatcher.find()) {
-            String extracted = codeBlockMatcher.group(1).trim();
-            if (isValidJson(extracted)) {
-                return extracted;
-            }
-        }
+    private Mono<AiAnalysisResult> analyzeWithCascade(String translatedText, String optimizedPrompt) {
+        intentCascade.recordRequest();
+
+        AiAnalysisRequest request = buildRequest(intentCascade.getSmallModel(), intentCascade.getSmallNumPredict(), optimizedPrompt);
+        Duration smallTimeout = intentCascade.getSmallTimeout();
+
+        Mono<AiAnalysisResult> small = upstreamResilience.call(UpstreamResilience.OLLAMA,
+                () -> voicePipelineMetrics.time(VoicePipelineMetrics.STAGE_LLM, send(request, smallTimeout)));
+
+        return intentCascade.time(IntentCascade.TIER_SMALL, small)
+                .map(result -> intentCascade.evaluate(result, translatedText))
+                .onErrorResume(e -> !UpstreamResilience.isRejected(e), e -> {
+                    log.debug("Small model analysis failed, escalating: {}", e.getMessage());
+                    return Mono.just(intentCascade.escalate(IntentCascade.REASON_FAILURE));
+                })
+                .flatMap(decision -> {
+                    if (decision.accepted()) {
+                        return Mono.just(decision.result());
+                    }
+                    log.debug("Escalating to {} ({})", modelName, decision.reason());
+                    return intentCascade.time(IntentCascade.TIER_LARGE, analyzeWithModel(optimizedPrompt));
+                })
+                // 같은 Ollama 서버이므로 작은 모델 호출이 거부되면 큰 모델도 호출하지 않음
+                .onErrorResume(UpstreamResilience::isRejected, e -> {
+                    log.warn("AI server call rejected: {}", e.getMessage());
+                    return Mono.just(createErrorResult("AI 서버가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", e));
+                });
+    }
 
-        // 2. 시작/끝 코드블록 마커 제거
-        if (cleaned.startsWith("```json")) {
-            cleaned = cleaned.substring(7);
-        } else if (cleaned.startsWith("```")) {
-            cleaned = cleaned.substring(3);
-        }
-        if (cleaned.endsWith("```")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3);
-        }
-        cleaned = cleaned.trim();
+    /**
+     * 큰 모델(ai.server.model)로 분석
+     * 실패 시 지수 백오프로 재시도 (스레드 대기 없음), 서킷 오픈/동시 호출 초과 시 재시도 없이 즉시 에러 결과 반환
+     */
+    private Mono<AiAnalysisResult> analyzeWithModel(String optimizedPrompt) {
+        AiAnalysisRequest request = buildRequest(modelName, NUM_PREDICT, optimizedPrompt);
+        Duration requestTimeout = Duration.ofMillis(timeout);
+
+        // 서킷 브레이커/벌크헤드 적용 (장애 시 대기 없이 즉시 실패)
+        Mono<AiAnalysisResult> generation = upstreamResilience.call(UpstreamResilience.OLLAMA,
+                () -> voicePipelineMetrics.time(VoicePipelineMetrics.STAGE_LLM, send(request, requestTimeout)));
+
+        return generation
+                .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                        .filter(e -> !UpstreamResilience.isRejected(e))
+                        .doBeforeRetry(signal -> {
+                            voicePipelineMetrics.retry();
+                            logRetry(signal.totalRetries() + 1, signal.failure());
+                        }))
+                .onErrorResume(UpstreamResilience::isRejected, e -> {
+                    log.warn("AI server call rejected: {}", e.getMessage());
+                    return Mono.just(createErrorResult("AI 서버가 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", e));
+                })
+                .onErrorResume(e -> {
+                    // 모든 시도 실패 시 에러 응답 반환
+                    Throwable cause = Exceptions.isRetryExhausted(e) ? e.getCause() : e;
+                    log.error("All AI server attempts failed");
+                    return Mono.just(createErrorResult("AI 서버 응답을 받을 수 없습니다.", cause));
+                });
+    }
 
-        // 3. 직접 JSON인 경우
-        if (cleaned.startsWith("{") && cleaned.endsWith("}")) {
-            if (isValidJson(cleaned)) {
-                return cleaned;
-            }
-        }
+    /**
+     * Ollama 요청 생성 (무작위성 제거)
+     */
+    private AiAnalysisRequest buildRequest(String model, int numPredict, String prompt) {
+        Map<String, Object> options = new HashMap<>();
+        options.put("temperature", 0.0);
+        options.put("num_predict", numPredict);
 
-        // 4. 텍스트 사이에 JSON이 있는 경우 추출
-        int firstBrace = cleaned.indexOf('{');
-        int lastBrace = cleaned.lastIndexOf('}');
-        if (firstBrace != -1 && lastBrace > firstBrace) {
-            String extracted = cleaned.substring(firstBrace, lastBrace + 1);
-            if (isValidJson(extracted)) {
-                return extracted;
-            }
-        }
+        return AiAnalysisRequest.builder()
+                .model(model)
+                .prompt(prompt)
+                .stream(streaming)
+                .format("json")
+                .options(options)
+                .build();
+    }
 
-        // 5. 정규식으로 JSON 객체 찾기
-        Matcher jsonMatcher = JSON_PATTERN.matcher(cleaned);
-        while (jsonMatcher.find()) {
-            String candidate = jsonMatcher.group();
-            if (isValidJson(candidate) && candidate.contains("category")) {
-                return candidate;
-            }
+    private Mono<AiAnalysisResult> send(AiAnalysisRequest request, Duration requestTimeout) {
+        return streaming ? generateStreaming(request, requestTimeout) : generate(request, requestTimeout);
+    }
+
+    /**
+     * 전체 응답을 한 번에 수신 (stream: false)
+     */
+    private Mono<AiAnalysisResult> generate(AiAnalysisRequest request, Duration requestTimeout) {
+        return webClient.post()
+                .uri(aiServerUrl + "/api/generate")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OllamaResponse.class)
+                .timeout(requestTimeout)
+                .flatMap(response -> {
+                    if (response.getResponse() == null) {
+                        return Mono.<AiAnalysisResult>error(new IncompleteAiResponseException("AI server returned null response"));
+                    }
+
+                    // JSON 문자열을 AiAnalysisResult로 파싱
+                    return completeResult(parseAiResponse(response.getResponse()));
+                })
+                .switchIfEmpty(Mono.error(() -> new IncompleteAiResponseException("AI server returned null response")));
+    }
+
+    /**
+     * 토큰 스트림 수신 (stream: true)
+     *
+     * Ollama의 NDJSON 토큰 스트림을 누적하면서 최상위 JSON 객체가 완성될 때마다 파싱하고,
+     * category를 포함한 객체가 나오면 즉시 구독을 취소합니다.
+     * 구독 취소 시 연결이 끊기므로 Ollama도 남은 토큰 생성을 중단합니다.
+     */
+    private Mono<AiAnalysisResult> generateStreaming(AiAnalysisRequest request, Duration requestTimeout) {
+        // 재시도 시마다 새 스캐너를 사용하도록 defer
+        return Mono.defer(() -> {
+            StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+            return webClient.post()
+                    .uri(aiServerUrl + "/api/generate")
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(OllamaResponse.class)
+                    .<AiAnalysisResult>handle((chunk, sink) -> {
+                        String json = scanner.append(chunk.getResponse());
+                        while (json != null) {
+                            String candidate = json;
+                            AiAnalysisResult result = voicePipelineMetrics.time(VoicePipelineMetrics.STAGE_PARSE,
+                                    () -> aiResponseJsonExtractor.extract(candidate));
+                            if (result != null && result.getCategory() != null) {
+                                sink.next(result);
+                                return;
+                            }
+                            json = scanner.scan();
+                        }
+                    })
+                    // 첫 번째 유효한 객체에서 스트림 종료 (이후 토큰은 생성되지 않음)
+                    .next()
+                    // 스트림이 끝날 때까지 완성된 객체가 없으면 누적 텍스트 전체로 기존 파싱 시도
+                    .switchIfEmpty(Mono.defer(() -> {
+                        String buffered = scanner.getBufferedText();
+                        if (buffered.isBlank()) {
+                            return Mono.error(new IncompleteAiResponseException("AI server returned null response"));
+                        }
+                        return completeResult(parseAiResponse(buffered));
+                    }))
+                    .timeout(requestTimeout);
+        });
+    }
+
+    /**
+     * 파싱 결과가 불완전하면 재시도 대상 오류로 변환
+     */
+    private Mono<AiAnalysisResult> completeResult(AiAnalysisResult result) {
+        if (result == null || result.getCategory() == null) {
+            voicePipelineMetrics.parseFailure(VoicePipelineMetrics.PARSE_INCOMPLETE);
+            return Mono.error(new IncompleteAiResponseException("Parsed result is incomplete"));
         }
+        return Mono.just(result);
+    }
 
-        // 6. 줄바꿈 제거 후 다시 시도
-        String noNewlines = cleaned.replaceAll("\\s+", " ");
-        firstBrace = noNewlines.indexOf('{');
-        lastBrace = noNewlines.lastIndexOf('}');
-        if (firstBrace != -1 && lastBrace > firstBrace) {
-            String extracted = noNewlines.substring(firstBrace, lastBrace + 1);
-            if (isValidJson(extracted)) {
-                return extracted;
-            }
+    private void logRetry(long attempt, Throwable failure) {
+        if (failure instanceof WebClientResponseException e) {
+            log.warn("AI server HTTP error (attempt {}): {} - {}", attempt, e.getStatusCode(), e.getMessage());
+        } else {
+            log.warn("AI server error (attempt {}): {}", attempt, failure.getMessage());
         }
+    }
 
-        return null;
+    /**
+     * 모델 입력 프롬프트 생성 (Modelfile의 Input/Output 형식)
+     */
+    private String buildPrompt(String translatedText) {
+        return String.format("Input: \"%s\"\nOutput:", translatedText);
     }
 
     /**
-     * 문자열이 유효한 JSON인지 확인
+     * AI 응답 텍스트를 AiAnalysisResult 객체로 파싱
+     * 설명 텍스트/코드블록이 섞인 응답에서도 category를 포함한 첫 번째 JSON 객체를 찾아 바인딩
      */
-    private boolean isValidJson(String str) {
-        if (str == null || str.trim().isEmpty()) {
-            return false;
+    private AiAnalysisResult parseAiResponse(String rawResponse) {
+        if (rawResponse == null || rawResponse.trim().isEmpty()) {
+            return createErrorResult("AI 응답이 비어있습니다.", null);
         }
-        try {
-            objectMapper.readTree(str);
-            return true;
-        } catch (JsonProcessingException e) {
-            return false;
+
+        AiAnalysisResult result = voicePipelineMetrics.time(VoicePipelineMetrics.STAGE_PARSE,
+                () -> aiResponseJsonExtractor.extract(rawResponse));
+
+        if (result == null) {
+            voicePipelineMetrics.parseFailure(VoicePipelineMetrics.PARSE_NO_JSON);
+            log.error("Could not extract JSON from AI response: {}", rawResponse);
+            return createErrorResult("AI 응답에서 JSON을 추출할 수 없습니다.", null);
         }
+
+        return result;
     }
 
     /**
      * 에러 결과 생성
      */
-    private AiAnalysisResult createErrorResult(String message, Exception cause) {
+    private AiAnalysisResult createErrorResult(String message, Throwable cause) {
         AiAnalysisResult result = new AiAnalysisResult();
         result.setCategory("ERROR");
         result.setAction("UNKNOWN");
@@ -271,4 +454,24 @@ public class AiServerClient {
 
         return result;
     }
+
+    private AiAnalysisResult copy(AiAnalysisResult result) {
+        return objectMapper.convertValue(result, AiAnalysisResult.class);
+    }
+
+    /**
+     * 진행 중인 분석 결과와 진행 단계를 받을 리스너 목록
+     */
+    private record InFlightAnalysis(Mono<AiAnalysisResult> result,
+                                    List<Consumer<VoicePipelineStage>> listeners) {
+    }
+
+    /**
+     * 재시도 대상인 불완전한 AI 응답 (빈 응답, category 누락)
+     */
+    private static class IncompleteAiResponseException extends RuntimeException {
+        IncompleteAiResponseException(String message) {
+            super(message);
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.vocacrm.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vocacrm.api.dto.AuthPrincipal;
+import com.vocacrm.api.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증된 Access Token 사용자 정보 캐시
+ *
+ * 같은 토큰으로 반복되는 요청은 서명 검증/JSON 디코딩 없이 이전 검증 결과를 사용합니다.
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 사용하고 (메모리에 토큰을 보관하지 않음),
+ * 각 항목은 토큰 만료 시각에 함께 만료됩니다. 검증에 실패한 토큰은 저장하지 않습니다.
+ *
+ * 메트릭:
+ * - cache.gets/cache.puts/cache.evictions{cache=auth.principal}: 캐시 적중률
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthPrincipalCache {
+
+    private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.principal-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private Cache<TokenDigest, AuthPrincipal> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<TokenDigest, AuthPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, AuthPrincipal principal, long currentTime) {
+                        return remainingNanos(principal);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, AuthPrincipal principal, long currentTime,
+                                                  long currentDuration) {
+                        return remainingNanos(principal);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, AuthPrincipal principal, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    /**
+     * 토큰 검증 (캐시에 있으면 재사용)
+     *
+     * @throws io.jsonwebtoken.JwtException 검증 실패 (JwtUtil.parseVerified 참고)
+     */
+    public AuthPrincipal resolve(String token) {
+        if (!enabled) {
+            return jwtUtil.parseVerified(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        AuthPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AuthPrincipal principal = jwtUtil.parseVerified(token);
+        cache.put(key, principal);
+        return principal;
+    }
+
+    private static long remainingNanos(AuthPrincipal principal) {
+        return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (문자열 대신 long 4개로 보관)
+     */
+    private record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            MessageDigest digest = SHA_256.get();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
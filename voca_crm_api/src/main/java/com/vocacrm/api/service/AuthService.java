@@ -199,7 +199,8 @@ public class AuthService {
                     user.getPhone(),
                     user.getEmail(),
                     user.getDefaultBusinessPlaceId(),
-                    isAdmin);
+                    isAdmin,
+                    user.getTier());
 
             Map<String, String> result = new HashMap<>();
             result.put("accessToken", newAccessToken);
@@ -268,7 +269,8 @@ public class AuthService {
                 user.getPhone(),
                 user.getEmail(),
                 user.getDefaultBusinessPlaceId(),
-                isAdmin);
+                isAdmin,
+                user.getTier());
 
         // Refresh Token 생성 (Redis 저장, Opaque Token)
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(
@@ -0,0 +1,209 @@
+package com.vocacrm.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vocacrm.api.model.AccessStatus;
+import com.vocacrm.api.model.Role;
+import com.vocacrm.api.model.UserBusinessPlace;
+import com.vocacrm.api.repository.UserBusinessPlaceRepository;
+import com.vocacrm.api.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 사업장 접근 권한 캐시 (사용자 → {사업장 ID → 역할, 상태})
+ *
+ * 컨트롤러/서비스의 사업장 접근 확인과 역할 조회가 요청마다 DB를 조회하지 않도록
+ * 사용자의 모든 사업장 소속을 한 번의 쿼리로 읽어 로컬 캐시에 보관합니다.
+ *
+ * - 소속이 바뀌는 작업(가입 승인, 역할 변경, 직원 제거, 사업장 탈퇴/삭제)은 커밋 후 evict를 호출
+ * - evict는 Redis 채널로 전파되어 모든 API 노드의 로컬 캐시에서 제거됨 (Redis 장애 시 TTL까지 유지)
+ * - strict 모드: 항상 DB 결과를 사용하고 캐시와 다르면 불일치로 기록 (감사/검증용)
+ *
+ * 메트릭:
+ * - cache.gets/cache.puts/cache.evictions{cache=business.place.permission}: 캐시 적중률
+ * - business.place.permission.mismatch: strict 모드에서 캐시와 DB 결과가 다른 횟수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessPlacePermissionCache implements MessageListener {
+
+    private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private static final String EVICT_CHANNEL = "permission:evict";
+    private static final String EVICT_ALL = "*";
+
+    @Value("${permission.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${permission.cache.strict:false}")
+    private boolean strict;
+
+    @Value("${permission.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${permission.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<UUID, Map<String, Permission>> cache;
+    private Counter mismatchCounter;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "business.place.permission");
+
+        mismatchCounter = Counter.builder("business.place.permission.mismatch")
+                .description("strict 모드에서 권한 캐시와 DB 결과가 다른 횟수")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+
+        if (strict) {
+            log.info("Business place permission cache running in strict mode (DB verified)");
+        }
+    }
+
+    /**
+     * 사업장 접근 권한 확인 (APPROVED 상태)
+     */
+    public boolean hasAccess(UUID userId, String businessPlaceId) {
+        return findApprovedRole(userId, businessPlaceId).isPresent();
+    }
+
+    /**
+     * 사업장에서의 역할 조회 (APPROVED 상태만)
+     *
+     * @return 역할, 소속이 없거나 승인되지 않았으면 empty
+     */
+    public Optional<Role> findApprovedRole(UUID userId, String businessPlaceId) {
+        if (userId == null || businessPlaceId == null) {
+            return Optional.empty();
+        }
+
+        if (!enabled) {
+            return approvedRole(load(userId), businessPlaceId);
+        }
+
+        if (strict) {
+            return verify(userId, businessPlaceId);
+        }
+
+        return approvedRole(cache.get(userId, this::load), businessPlaceId);
+    }
+
+    /**
+     * 사용자 권한 캐시 제거 (트랜잭션 중이면 커밋 후, 모든 노드에 전파)
+     */
+    public void evict(UUID userId) {
+        if (userId != null) {
+            TransactionUtils.afterCommit(() -> publish(userId.toString()));
+        }
+    }
+
+    /**
+     * 전체 권한 캐시 제거 (사업장 삭제 등 여러 사용자가 바뀌는 경우)
+     */
+    public void evictAll() {
+        TransactionUtils.afterCommit(() -> publish(EVICT_ALL));
+    }
+
+    /**
+     * 다른 노드(자신 포함)의 evict 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String target = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(target);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed permission evict message: {}", target);
+        }
+    }
+
+    private void publish(String target) {
+        invalidateLocal(target);
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, target);
+        } catch (Exception e) {
+            log.warn("Failed to publish permission evict ({}), other nodes keep entries for up to {}s: {}",
+                    target, ttlSeconds, e.getMessage());
+        }
+    }
+
+    private void invalidateLocal(String target) {
+        if (EVICT_ALL.equals(target)) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(UUID.fromString(target));
+        }
+    }
+
+    /**
+     * strict 모드: DB 결과를 반환하고 캐시와 다르면 불일치 기록 후 캐시 교체
+     */
+    private Optional<Role> verify(UUID userId, String businessPlaceId) {
+        Map<String, Permission> fresh = load(userId);
+        Map<String, Permission> cached = cache.getIfPresent(userId);
+
+        if (cached != null && !cached.equals(fresh)) {
+            mismatchCounter.increment();
+            log.warn("Permission cache mismatch for user {}: cached={}, db={}", userId, cached, fresh);
+        }
+        cache.put(userId, fresh);
+
+        return approvedRole(fresh, businessPlaceId);
+    }
+
+    /**
+     * 사용자의 모든 사업장 소속 조회 (상태 무관, 1회 쿼리)
+     */
+    private Map<String, Permission> load(UUID userId) {
+        return userBusinessPlaceRepository.findByUserId(userId).stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        UserBusinessPlace::getBusinessPlaceId,
+                        ubp -> new Permission(ubp.getRole(), ubp.getStatus()),
+                        (first, second) -> first));
+    }
+
+    private static Optional<Role> approvedRole(Map<String, Permission> permissions, String businessPlaceId) {
+        Permission permission = permissions.get(businessPlaceId);
+        if (permission == null || permission.status() != AccessStatus.APPROVED) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(permission.role());
+    }
+
+    /**
+     * 사업장 소속 정보
+     */
+    private record Permission(Role role, AccessStatus status) {
+    }
+}
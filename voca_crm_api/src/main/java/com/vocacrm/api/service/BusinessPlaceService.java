@@ -34,6 +34,7 @@ public class BusinessPlaceService {
 
     private final BusinessPlaceRepository businessPlaceRepository;
     private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
     private final UserRepository userRepository;
     private final BusinessPlaceAccessRequestRepository accessRequestRepository;
     private final FCMService fcmService;
@@ -41,6 +42,8 @@ public class BusinessPlaceService {
 
     // 사용자 참조 정리를 위한 Repository
     private final MemberRepository memberRepository;
+    private final MemberNameIndex memberNameIndex;
+    private final DailyBriefingService dailyBriefingService;
     private final MemoRepository memoRepository;
     private final ReservationRepository reservationRepository;
     private final VisitRepository visitRepository;
@@ -102,6 +105,7 @@ public class BusinessPlaceService {
                 .status(AccessStatus.APPROVED)
                 .build();
         userBusinessPlaceRepository.save(ubp);
+        businessPlacePermissionCache.evict(userUuid);
 
         // Set as default business place if user doesn't have one
         if (user.getDefaultBusinessPlaceId() == null) {
@@ -380,6 +384,7 @@ public class BusinessPlaceService {
                 .status(AccessStatus.APPROVED)
                 .build();
         userBusinessPlaceRepository.save(ubp);
+        businessPlacePermissionCache.evict(request.getUserId());
 
         // Set as default business place if user doesn't have one
         User user = userRepository.findById(request.getUserId())
@@ -507,6 +512,7 @@ public class BusinessPlaceService {
         cleanupUserReferences(businessPlaceId, userId);
 
         userBusinessPlaceRepository.delete(ubp);
+        businessPlacePermissionCache.evict(ubp.getUserId());
 
         // Clear default business place if it was the removed one
         User user = userRepository.findById(UUID.fromString(userId))
@@ -670,6 +676,7 @@ public class BusinessPlaceService {
 
         targetUbp.setRole(newRole);
         UserBusinessPlace updated = userBusinessPlaceRepository.save(targetUbp);
+        businessPlacePermissionCache.evict(updated.getUserId());
 
         User user = userRepository.findById(updated.getUserId()).orElse(null);
         return BusinessPlaceMemberDTO.from(updated, user);
@@ -715,6 +722,7 @@ public class BusinessPlaceService {
 
         // UserBusinessPlace 삭제
         userBusinessPlaceRepository.delete(targetUbp);
+        businessPlacePermissionCache.evict(targetUserId);
 
         // 대상 사용자의 기본 사업장이 이 사업장이었다면 null로 설정
         User targetUser = userRepository.findById(targetUserId).orElse(null);
@@ -847,6 +855,8 @@ public class BusinessPlaceService {
         // 6. Members 삭제
         int deletedMembers = memberRepository.deleteAllByBusinessPlaceId(businessPlaceId);
         log.debug("Deleted {} members", deletedMembers);
+        memberNameIndex.invalidate(businessPlaceId);
+        dailyBriefingService.evict(businessPlaceId);
 
         // 7. BusinessPlaceAccessRequests 삭제
         int deletedAccessRequests = accessRequestRepository.deleteAllByBusinessPlaceId(businessPlaceId);
@@ -855,6 +865,7 @@ public class BusinessPlaceService {
         // 8. UserBusinessPlaces 삭제
         int deletedUserBusinessPlaces = userBusinessPlaceRepository.deleteAllByBusinessPlaceId(businessPlaceId);
         log.debug("Deleted {} user-business-place relationships", deletedUserBusinessPlaces);
+        businessPlacePermissionCache.evictAll();
 
         // 영속성 컨텍스트 flush & clear
         // bulk delete 쿼리 후 영속성 컨텍스트와 DB 상태를 동기화하고,
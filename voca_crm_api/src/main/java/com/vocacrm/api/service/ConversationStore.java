@@ -0,0 +1,129 @@
+package com.vocacrm.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vocacrm.api.dto.ConversationContextDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 다단계 음성 대화 컨텍스트 저장소
+ *
+ * 회원 선택/메모 선택/확인 단계의 컨텍스트(원래 의도, 후보 목록, 사업장 등)를 서버에 보관하고
+ * 클라이언트는 conversationId와 선택만 전송합니다.
+ *
+ * - Redis: 모든 API 노드가 공유, TTL 만료 시 대화 종료
+ * - 로컬 캐시: 같은 노드로 이어지는 요청의 Redis 조회 생략 (다른 노드의 삭제가 늦게 반영될 수 있어 짧은 TTL 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConversationStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private static final String KEY_PREFIX = "voice:conversation:";
+
+    @Value("${voice.conversation.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${voice.conversation.local.max-size:1000}")
+    private long localMaxSize;
+
+    @Value("${voice.conversation.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    private Cache<String, ConversationContextDTO> localCache;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(Math.min(localTtlSeconds, ttlMinutes * 60)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "voice.conversation");
+    }
+
+    /**
+     * 대화 컨텍스트 저장 (TTL 갱신)
+     */
+    public void save(ConversationContextDTO context) {
+        if (context == null || context.getConversationId() == null) {
+            return;
+        }
+
+        String conversationId = context.getConversationId();
+        localCache.put(conversationId, copy(context));
+
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + conversationId,
+                    objectMapper.writeValueAsString(context), Duration.ofMinutes(ttlMinutes));
+        } catch (Exception e) {
+            log.warn("Conversation store Redis write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대화 컨텍스트 조회
+     *
+     * @return 저장된 컨텍스트의 복사본, 없거나 만료되었으면 null
+     */
+    public ConversationContextDTO find(String conversationId) {
+        if (conversationId == null) {
+            return null;
+        }
+
+        ConversationContextDTO cached = localCache.getIfPresent(conversationId);
+        if (cached != null) {
+            // 호출자가 컨텍스트를 수정해도 캐시 원본이 바뀌지 않도록 복사본 반환
+            return copy(cached);
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + conversationId);
+            if (json == null) {
+                return null;
+            }
+            ConversationContextDTO context = objectMapper.readValue(json, ConversationContextDTO.class);
+            localCache.put(conversationId, context);
+            return copy(context);
+        } catch (Exception e) {
+            log.warn("Conversation store Redis lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 대화 종료 (완료/취소/다음 단계로 진행)
+     */
+    public void remove(String conversationId) {
+        if (conversationId == null) {
+            return;
+        }
+
+        localCache.invalidate(conversationId);
+
+        try {
+            redisTemplate.delete(KEY_PREFIX + conversationId);
+        } catch (Exception e) {
+            log.warn("Conversation store Redis delete failed: {}", e.getMessage());
+        }
+    }
+
+    private ConversationContextDTO copy(ConversationContextDTO context) {
+        return objectMapper.convertValue(context, ConversationContextDTO.class);
+    }
+}
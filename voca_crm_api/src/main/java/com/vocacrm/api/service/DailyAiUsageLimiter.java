@@ -1,9 +1,14 @@
 package com.vocacrm.api.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -11,12 +16,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * AI 분석 일일 사용량 제한 서비스
  *
  * DeepL API 월 50만자 제한을 고려하여 일일 AI 분석 호출 수를 제한합니다.
  * Redis를 사용하여 서버 재시작 및 다중 서버 환경에서도 정확한 카운트를 유지합니다.
+ *
+ * 한도 확인/증가/TTL 설정은 Lua 스크립트 한 번으로 원자적으로 처리하므로 동시 요청에도 한도를 넘지 않습니다.
+ *
+ * 리스 모드(ai.daily-limit.lease.enabled)에서는 노드가 Redis에서 N개 단위를 미리 예약하고
+ * 로컬 AtomicLong에서 차감하여 요청마다 Redis를 호출하지 않습니다.
+ * 예약 총량은 한도를 넘지 않으며, 미사용 단위는 종료 시 반납하고 날짜가 바뀌면 폐기합니다.
+ * 예약에 실패하면 ai.daily-limit.lease.retry-ms 동안 Redis 호출 없이 거절하고 이후 다시 예약을 시도합니다
+ * (다른 노드가 종료 시 반납한 단위를 사용할 수 있도록).
  */
 @Slf4j
 @Service
@@ -24,16 +39,97 @@ import java.time.ZoneId;
 public class DailyAiUsageLimiter {
 
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     private static final String KEY_PREFIX = "ai:daily:";
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
 
+    /**
+     * 최대 requested 단위를 예약 (한도 내에서 가능한 만큼)
+     * KEYS[1]: 일일 키, ARGV[1]: 요청 단위, ARGV[2]: 일일 한도, ARGV[3]: TTL(초)
+     * 반환: 예약된 단위 수 (0이면 한도 초과)
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local limit = tonumber(ARGV[2])
+            if current >= limit then
+                return 0
+            end
+            local granted = math.min(tonumber(ARGV[1]), limit - current)
+            redis.call('INCRBY', KEYS[1], granted)
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            return granted
+            """, Long.class);
+
+    /**
+     * 미사용 예약 단위 반납 (키가 있을 때만, 0 미만으로 내려가지 않음)
+     * KEYS[1]: 일일 키, ARGV[1]: 반납 단위
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local released = math.min(tonumber(ARGV[1]), current)
+            if released > 0 then
+                redis.call('DECRBY', KEYS[1], released)
+            end
+            return released
+            """, Long.class);
+
     @Value("${ai.daily-limit.enabled:true}")
     private boolean enabled;
 
     @Value("${ai.daily-limit.max-requests:500}")
     private int maxDailyRequests;
 
+    @Value("${ai.daily-limit.lease.enabled:false}")
+    private boolean leaseEnabled;
+
+    @Value("${ai.daily-limit.lease.size:10}")
+    private int leaseSize;
+
+    @Value("${ai.daily-limit.lease.retry-ms:5000}")
+    private long leaseRetryMs;
+
+    /**
+     * 리스 모드: 이 노드가 예약하고 아직 사용하지 않은 단위 수
+     */
+    private final AtomicLong leaseRemaining = new AtomicLong();
+
+    /**
+     * 리스 모드: 현재 예약이 속한 날짜
+     */
+    private volatile LocalDate leaseDay;
+
+    /**
+     * 리스 모드: 예약 실패 후 다시 예약을 시도할 시각 (epoch ms, 0이면 즉시)
+     */
+    private long leaseRetryAt;
+
+    private Counter leaseGrantedCounter;
+    private Counter leaseExhaustedCounter;
+    private Counter leaseUnitsCounter;
+    private Counter leaseReleasedCounter;
+
+    @PostConstruct
+    public void init() {
+        leaseGrantedCounter = Counter.builder("ai.daily.lease.refills")
+                .tag("result", "granted")
+                .description("일일 사용량 리스 재충전 (Redis 예약) 횟수")
+                .register(meterRegistry);
+        leaseExhaustedCounter = Counter.builder("ai.daily.lease.refills")
+                .tag("result", "exhausted")
+                .description("일일 사용량 리스 재충전 (Redis 예약) 횟수")
+                .register(meterRegistry);
+        leaseUnitsCounter = Counter.builder("ai.daily.lease.units")
+                .description("리스로 예약한 사용량 단위 수")
+                .register(meterRegistry);
+        leaseReleasedCounter = Counter.builder("ai.daily.lease.released")
+                .description("반납한 미사용 리스 단위 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("ai.daily.lease.remaining", leaseRemaining);
+    }
+
     /**
      * AI 분석 요청이 허용되는지 확인하고, 허용되면 카운트 증가
      *
@@ -44,46 +140,129 @@ public class DailyAiUsageLimiter {
             return true;
         }
 
-        String key = getDailyKey();
-
         try {
-            // 현재 카운트 조회
-            String currentValue = redisTemplate.opsForValue().get(key);
-            long currentCount = currentValue != null ? Long.parseLong(currentValue) : 0;
+            return leaseEnabled ? consumeFromLease() : reserve(LocalDate.now(ZONE_ID), 1) > 0;
+        } catch (Exception e) {
+            log.error("Error checking daily AI usage limit: {}", e.getMessage());
+            // Redis 오류 시 요청 허용 (서비스 가용성 우선)
+            return true;
+        }
+    }
+
+    /**
+     * 로컬 예약분에서 차감, 소진 시 Redis에서 다시 예약
+     */
+    private boolean consumeFromLease() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+
+        while (true) {
+            if (!today.equals(leaseDay)) {
+                rollover(today);
+            }
 
-            if (currentCount >= maxDailyRequests) {
-                log.warn("Daily AI usage limit exceeded. Current: {}, Max: {}", currentCount, maxDailyRequests);
-                return false;
+            long remaining = leaseRemaining.get();
+            if (remaining > 0) {
+                if (leaseRemaining.compareAndSet(remaining, remaining - 1)) {
+                    return true;
+                }
+                continue;
             }
 
-            // 카운트 증가 (원자적 연산)
-            Long newCount = redisTemplate.opsForValue().increment(key);
+            synchronized (this) {
+                // 다른 스레드가 이미 재충전했으면 다시 차감 시도
+                if (leaseRemaining.get() > 0 || !today.equals(leaseDay)) {
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                if (now < leaseRetryAt) {
+                    return false;
+                }
 
-            // 첫 번째 요청인 경우 TTL 설정 (자정까지)
-            if (newCount != null && newCount == 1) {
-                Duration ttl = getTimeUntilMidnight();
-                redisTemplate.expire(key, ttl);
-                log.debug("Daily AI usage key created with TTL: {} seconds", ttl.getSeconds());
+                long granted = reserve(today, leaseSize);
+                if (granted <= 0) {
+                    leaseRetryAt = now + leaseRetryMs;
+                    leaseExhaustedCounter.increment();
+                    return false;
+                }
+                leaseRetryAt = 0;
+
+                leaseGrantedCounter.increment();
+                leaseUnitsCounter.increment(granted);
+                log.debug("Daily AI usage lease refilled: {} units", granted);
+                // 예약한 단위 중 1개는 이번 요청에 사용
+                leaseRemaining.set(granted - 1);
+                return true;
             }
+        }
+    }
 
-            log.debug("Daily AI usage: {}/{}", newCount, maxDailyRequests);
-            return true;
+    /**
+     * 날짜 변경: 어제 예약분은 어제 키와 함께 만료되므로 폐기
+     */
+    private synchronized void rollover(LocalDate today) {
+        if (today.equals(leaseDay)) {
+            return;
+        }
+        long unused = leaseRemaining.getAndSet(0);
+        if (leaseDay != null && unused > 0) {
+            log.debug("Discarding {} unused daily AI usage lease units from {}", unused, leaseDay);
+        }
+        leaseDay = today;
+        leaseRetryAt = 0;
+    }
+
+    /**
+     * 종료 시 오늘 미사용 예약분을 반납하여 다른 노드가 사용할 수 있게 함
+     */
+    @PreDestroy
+    public synchronized void releaseLease() {
+        if (!enabled || !leaseEnabled || leaseDay == null || !leaseDay.equals(LocalDate.now(ZONE_ID))) {
+            return;
+        }
+
+        long unused = leaseRemaining.getAndSet(0);
+        if (unused <= 0) {
+            return;
+        }
 
+        try {
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(getDailyKey(leaseDay)), String.valueOf(unused));
+            leaseReleasedCounter.increment(released != null ? released : 0);
+            log.info("Released {} unused daily AI usage lease units", released);
         } catch (Exception e) {
-            log.error("Error checking daily AI usage limit: {}", e.getMessage());
-            // Redis 오류 시 요청 허용 (서비스 가용성 우선)
-            return true;
+            log.warn("Failed to release daily AI usage lease: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis에서 한도 내 단위 예약 (확인 + 증가 + TTL을 한 번의 호출로 처리)
+     *
+     * @return 예약된 단위 수, 0이면 한도 초과
+     */
+    private long reserve(LocalDate day, int units) {
+        Long granted = redisTemplate.execute(RESERVE_SCRIPT, List.of(getDailyKey(day)),
+                String.valueOf(units),
+                String.valueOf(maxDailyRequests),
+                String.valueOf(getTimeUntilMidnight().getSeconds()));
+
+        if (granted == null || granted <= 0) {
+            log.warn("Daily AI usage limit exceeded. Max: {}", maxDailyRequests);
+            return 0;
         }
+        return granted;
     }
 
     /**
      * 현재 일일 사용량 조회
+     * 리스 모드에서는 다른 노드가 예약했지만 아직 사용하지 않은 단위가 포함될 수 있음
      */
     public long getCurrentUsage() {
         try {
-            String key = getDailyKey();
+            String key = getDailyKey(LocalDate.now(ZONE_ID));
             String value = redisTemplate.opsForValue().get(key);
-            return value != null ? Long.parseLong(value) : 0;
+            long reserved = value != null ? Long.parseLong(value) : 0;
+            // 리스 모드: 이 노드가 예약만 하고 아직 사용하지 않은 단위 제외
+            return Math.max(0, reserved - leaseRemaining.get());
         } catch (Exception e) {
             log.error("Error getting current AI usage: {}", e.getMessage());
             return 0;
@@ -123,11 +302,10 @@ public class DailyAiUsageLimiter {
     }
 
     /**
-     * 오늘 날짜 기반 Redis 키 생성
+     * 날짜 기반 Redis 키 생성
      */
-    private String getDailyKey() {
-        LocalDate today = LocalDate.now(ZONE_ID);
-        return KEY_PREFIX + today.toString(); // ai:daily:2025-01-15
+    private String getDailyKey(LocalDate day) {
+        return KEY_PREFIX + day.toString(); // ai:daily:2025-01-15
     }
 
     /**
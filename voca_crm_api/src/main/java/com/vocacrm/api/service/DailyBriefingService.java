@@ -0,0 +1,147 @@
+package com.vocacrm.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vocacrm.api.dto.BriefingMemoDTO;
+import com.vocacrm.api.repository.BusinessPlaceRepository;
+import com.vocacrm.api.repository.MemoRepository;
+import com.vocacrm.api.repository.ReservationRepository;
+import com.vocacrm.api.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 일일 브리핑 집계
+ *
+ * 사업장별 오늘 예약 수, 중요 메모 수, 최근 중요 메모(회원 이름 포함)를 집계 쿼리 3개로 조회하고
+ * 메모/예약이 변경될 때까지 캐시합니다.
+ *
+ * - 메모/예약/회원 변경 시 해당 사업장 캐시 제거 (트랜잭션 커밋 후)
+ * - 날짜가 바뀌면 다시 계산 (오늘 예약 수 기준일, 서버/DB 시간대와 무관하게 한국 시간 기준)
+ * - 다른 노드의 변경은 TTL 내에 반영
+ * - voice.briefing.precompute-cron 설정 시 영업 시작 전에 전체 사업장 미리 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyBriefingService {
+
+    private final MemoRepository memoRepository;
+    private final ReservationRepository reservationRepository;
+    private final BusinessPlaceRepository businessPlaceRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 브리핑에 포함하는 최근 중요 메모 수
+     */
+    private static final int TOP_MEMO_COUNT = 3;
+
+    /**
+     * 브리핑 기준일 시간대 (예약일은 한국 날짜로 저장)
+     */
+    static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @Value("${voice.briefing.cache.max-size:1000}")
+    private long cacheMaxSize;
+
+    @Value("${voice.briefing.cache.ttl-minutes:10}")
+    private long cacheTtlMinutes;
+
+    private Cache<String, DailyBriefing> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "voice.briefing");
+    }
+
+    /**
+     * 사업장 브리핑 조회 (캐시 우선)
+     */
+    public DailyBriefing getBriefing(String businessPlaceId) {
+        DailyBriefing briefing = cache.get(businessPlaceId, this::compute);
+        if (!LocalDate.now(ZONE_ID).equals(briefing.date())) {
+            // 어제 계산된 브리핑: 오늘 기준으로 다시 계산
+            cache.asMap().remove(businessPlaceId, briefing);
+            briefing = cache.get(businessPlaceId, this::compute);
+        }
+        return briefing;
+    }
+
+    /**
+     * 메모/예약 변경 후 사업장 브리핑 캐시 제거 (트랜잭션 커밋 후)
+     */
+    public void evict(String businessPlaceId) {
+        if (businessPlaceId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> cache.invalidate(businessPlaceId));
+    }
+
+    /**
+     * 전체 사업장 브리핑 미리 계산 (영업 시작 전 스케줄러에서 호출)
+     *
+     * @return 계산한 사업장 수
+     */
+    public int precomputeAll() {
+        List<String> businessPlaceIds = businessPlaceRepository.findAllIds();
+        int computed = 0;
+        for (String businessPlaceId : businessPlaceIds) {
+            if (computed >= cacheMaxSize) {
+                break;
+            }
+            try {
+                cache.put(businessPlaceId, compute(businessPlaceId));
+                computed++;
+            } catch (Exception e) {
+                log.warn("Briefing precompute failed for {}: {}", businessPlaceId, e.getMessage());
+            }
+        }
+        return computed;
+    }
+
+    private DailyBriefing compute(String businessPlaceId) {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        // DB의 CURRENT_DATE 대신 기준일을 직접 전달 (캐시 기준일과 집계 날짜 일치)
+        Long todayReservations = reservationRepository.countByBusinessPlaceIdAndDate(businessPlaceId, today);
+        long importantMemoCount = memoRepository.countImportantByBusinessPlaceId(businessPlaceId);
+        List<BriefingMemoDTO> topMemos = importantMemoCount == 0
+                ? List.of()
+                : memoRepository.findRecentImportantByBusinessPlaceId(businessPlaceId, PageRequest.of(0, TOP_MEMO_COUNT));
+
+        return new DailyBriefing(today,
+                todayReservations != null ? todayReservations : 0L,
+                importantMemoCount,
+                List.copyOf(topMemos));
+    }
+
+    /**
+     * 사업장 브리핑 스냅샷
+     *
+     * @param date               계산 기준일
+     * @param todayReservations  오늘 예약 수 (대기/확정)
+     * @param importantMemoCount 중요 메모 수
+     * @param topImportantMemos  최근 중요 메모 (최대 3개)
+     */
+    public record DailyBriefing(LocalDate date,
+                                long todayReservations,
+                                long importantMemoCount,
+                                List<BriefingMemoDTO> topImportantMemos) {
+    }
+}
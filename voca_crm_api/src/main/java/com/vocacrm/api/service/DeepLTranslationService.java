@@ -2,6 +2,9 @@ package com.vocacrm.api.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,13 +13,31 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * DeepL API를 사용한 번역 서비스
  * 한국어 텍스트를 영어로 번역하여 AI 서버에 전달
+ *
+ * 번역 전 TranslationPreprocessor로 이름/번호/CRM 용어를 보호하고, 번역이 필요 없는 텍스트는 DeepL을 호출하지 않습니다.
+ * 동시에 들어온 번역 요청은 몇 ms 동안 모아 하나의 DeepL 요청(text 배열)으로 전송하고
+ * 응답의 번역 결과를 요청 순서(인덱스)대로 각 호출자에게 나눠 전달합니다.
+ *
+ * 메트릭:
+ * - deepl.batch.size{trigger=size|chars|linger}: DeepL 요청 1건당 텍스트 수와 전송 계기
+ * - deepl.batch.fill.ratio: 배치 채움 비율 (텍스트 수 / 최대 배치 크기)
  */
 @Slf4j
 @Service
@@ -25,6 +46,11 @@ public class DeepLTranslationService {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final TranslationCache translationCache;
+    private final Scheduler voiceScheduler;
+    private final UpstreamResilience upstreamResilience;
+    private final MeterRegistry meterRegistry;
+    private final TranslationPreprocessor translationPreprocessor;
 
     @Value("${deepl.api-key:}")
     private String apiKey;
@@ -35,63 +61,297 @@ public class DeepLTranslationService {
     @Value("${deepl.timeout:10000}")
     private int timeout;
 
+    @Value("${deepl.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${deepl.batch.linger-ms:5}")
+    private long batchLingerMs;
+
+    @Value("${deepl.batch.max-size:20}")
+    private int batchMaxSize;
+
+    @Value("${deepl.batch.max-chars:5000}")
+    private int batchMaxChars;
+
+    private static final String FLUSH_SIZE = "size";
+    private static final String FLUSH_CHARS = "chars";
+    private static final String FLUSH_LINGER = "linger";
+
+    private final Object batchLock = new Object();
+
+    private Batch currentBatch;
+
+    private DistributionSummary batchFillRatio;
+
+    /**
+     * 전송 계기(size/chars/linger)별 배치 크기
+     */
+    private Map<String, DistributionSummary> batchSizes;
+
+    @PostConstruct
+    public void init() {
+        batchSizes = Map.of(
+                FLUSH_SIZE, batchSizeSummary(FLUSH_SIZE),
+                FLUSH_CHARS, batchSizeSummary(FLUSH_CHARS),
+                FLUSH_LINGER, batchSizeSummary(FLUSH_LINGER));
+        batchFillRatio = DistributionSummary.builder("deepl.batch.fill.ratio")
+                .description("DeepL 배치 채움 비율 (텍스트 수 / 최대 배치 크기)")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
     /**
-     * 텍스트를 영어로 번역
+     * 텍스트를 영어로 번역 (캐시 우선)
      *
      * @param text 번역할 텍스트 (한국어)
-     * @return 영어로 번역된 텍스트, 실패 시 원본 텍스트 반환
+     * @return 영어로 번역된 텍스트, 실패 시 원본 텍스트
      */
-    public String translateToEnglish(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return text;
+    public Mono<String> translateToEnglish(String text) {
+        if (shouldSkipTranslation(text)) {
+            return Mono.justOrEmpty(text);
         }
 
-        if (apiKey == null || apiKey.trim().isEmpty()) {
-            log.warn("DeepL API key is not configured. Skipping translation.");
-            return text;
+        // 캐시 조회 (L1 로컬 → L2 Redis) - Redis 조회는 블로킹이므로 전용 스케줄러에서 실행
+        return Mono.fromCallable(() -> Optional.ofNullable(getCachedTranslation(text)))
+                .subscribeOn(voiceScheduler)
+                .flatMap(cached -> {
+                    if (cached.isPresent()) {
+                        log.debug("Translation cache hit: '{}' -> '{}'", text, cached.get());
+                        return Mono.just(cached.get());
+                    }
+                    return requestTranslation(text);
+                });
+    }
+
+    /**
+     * DeepL API 호출 (캐시 조회 없음)
+     * 호출자가 이미 getCachedTranslation으로 캐시를 확인한 경우 사용합니다.
+     * 요청 스레드를 점유하지 않는 논블로킹 호출이며, 성공한 번역은 캐시에 저장합니다.
+     * 배치가 활성화되어 있으면 짧은 대기 시간 동안 모인 동시 요청과 함께 한 번의 DeepL 요청으로 전송합니다.
+     * 이름/번호/CRM 용어는 자리표시자로 보호하여 전송하고, 번역이 필요 없는 텍스트는 DeepL을 호출하지 않습니다.
+     *
+     * @param text 번역할 텍스트 (한국어)
+     * @return 영어로 번역된 텍스트, 실패 시 원본 텍스트
+     */
+    public Mono<String> requestTranslation(String text) {
+        if (shouldSkipTranslation(text)) {
+            return Mono.justOrEmpty(text);
         }
 
-        try {
-            Map<String, Object> requestBody = Map.of(
-                    "text", new String[]{text},
-                    "target_lang", "EN"
-            );
-
-            String response = webClient.post()
-                    .uri(apiUrl)
-                    .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofMillis(timeout))
-                    .block();
-
-            if (response == null) {
-                log.warn("DeepL API returned null response. Using original text.");
-                return text;
+        TranslationPreprocessor.Prepared prepared = translationPreprocessor.prepare(text);
+        if (prepared.bypass()) {
+            translationPreprocessor.recordBypass(text, prepared.local());
+            return Mono.just(prepared.local());
+        }
+        translationPreprocessor.recordTranslate();
+
+        Mono<String> translation = !batchEnabled || batchMaxSize <= 1
+                ? translateAll(List.of(prepared.masked())).flatMap(results -> Mono.justOrEmpty(results.get(0)))
+                : Mono.defer(() -> enqueue(prepared.masked()));
+
+        // 번역 결과는 DeepL 응답 스레드(음성 파이프라인 스케줄러)에서 전달되므로 캐시 저장(Redis) 가능
+        return translation
+                .map(translated -> {
+                    String restored = prepared.restore(translated);
+                    log.debug("Translation successful: '{}' -> '{}'", text, restored);
+                    translationCache.put(text, restored);
+                    return restored;
+                })
+                .defaultIfEmpty(text);
+    }
+
+    /**
+     * 배치에 요청 추가
+     * 최대 건수/최대 글자 수에 도달하면 즉시 전송하고, 그 전에는 첫 요청 기준 linger 시간 후 전송합니다.
+     */
+    private Mono<String> enqueue(String text) {
+        Sinks.One<String> sink = Sinks.one();
+        List<Batch> ready = new ArrayList<>(2);
+        Batch lingering = null;
+
+        synchronized (batchLock) {
+            // 글자 수 한도를 넘기게 되면 기존 배치를 먼저 전송
+            if (currentBatch != null && !currentBatch.contains(text)
+                    && currentBatch.chars() + text.length() > batchMaxChars) {
+                ready.add(takeCurrentBatch(FLUSH_CHARS));
             }
 
-            String translatedText = parseTranslationResponse(response);
-            if (translatedText != null) {
-                log.debug("Translation successful: '{}' -> '{}'", text, translatedText);
-                return translatedText;
+            if (currentBatch == null) {
+                currentBatch = new Batch();
+                lingering = currentBatch;
             }
+            currentBatch.add(text, sink);
 
-            log.warn("Failed to parse DeepL response. Using original text.");
-            return text;
+            if (currentBatch.size() >= batchMaxSize) {
+                ready.add(takeCurrentBatch(FLUSH_SIZE));
+            } else if (currentBatch.chars() >= batchMaxChars) {
+                ready.add(takeCurrentBatch(FLUSH_CHARS));
+            }
+        }
 
-        } catch (WebClientResponseException e) {
-            log.error("DeepL API HTTP error: {} - {}", e.getStatusCode(), e.getMessage());
-            return text;
+        if (lingering != null && !ready.contains(lingering)) {
+            scheduleLingerFlush(lingering);
+        }
+        ready.forEach(this::send);
+
+        return sink.asMono();
+    }
+
+    private void scheduleLingerFlush(Batch batch) {
+        try {
+            voiceScheduler.schedule(() -> flushIfCurrent(batch), batchLingerMs, TimeUnit.MILLISECONDS);
         } catch (Exception e) {
-            log.error("DeepL translation error: {}", e.getMessage());
-            return text;
+            // 작업 큐가 가득 찬 경우: 기다리지 않고 바로 전송
+            log.debug("DeepL batch linger not scheduled: {}", e.getMessage());
+            flushIfCurrent(batch);
+        }
+    }
+
+    /**
+     * linger 시간 만료 시 전송 (그 사이 한도 도달로 이미 전송된 배치는 무시)
+     */
+    private void flushIfCurrent(Batch batch) {
+        Batch ready = null;
+        synchronized (batchLock) {
+            if (currentBatch == batch) {
+                ready = takeCurrentBatch(FLUSH_LINGER);
+            }
+        }
+        if (ready != null) {
+            send(ready);
         }
     }
 
     /**
-     * DeepL API 응답에서 번역된 텍스트 추출
+     * batchLock을 보유한 상태에서 호출
+     */
+    private Batch takeCurrentBatch(String trigger) {
+        Batch batch = currentBatch;
+        currentBatch = null;
+
+        batchSizes.get(trigger).record(batch.size());
+        batchFillRatio.record((double) batch.size() / batchMaxSize);
+        return batch;
+    }
+
+    private DistributionSummary batchSizeSummary(String trigger) {
+        return DistributionSummary.builder("deepl.batch.size")
+                .tag("trigger", trigger)
+                .description("DeepL 요청 1건당 텍스트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치 전송 후 결과를 인덱스 순서대로 대기 중인 호출자에게 전달
+     */
+    private void send(Batch batch) {
+        List<String> texts = batch.texts();
+        translateAll(texts).subscribe(
+                results -> {
+                    for (int i = 0; i < texts.size(); i++) {
+                        batch.complete(texts.get(i), results.get(i));
+                    }
+                },
+                e -> texts.forEach(text -> batch.complete(text, null)));
+    }
+
+    /**
+     * 여러 텍스트를 한 번의 DeepL 요청으로 번역
+     *
+     * @return 입력과 같은 순서의 번역 결과 (번역 실패한 항목은 null)
+     */
+    private Mono<List<String>> translateAll(List<String> texts) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("text", texts.toArray(new String[0]));
+        requestBody.put("target_lang", "EN");
+        if (translationPreprocessor.isEnabled()) {
+            // 자리표시자(<k>n</k>) 내용은 번역하지 않음
+            requestBody.put("tag_handling", "xml");
+            requestBody.put("ignore_tags", new String[]{TranslationPreprocessor.PLACEHOLDER_TAG});
+        }
+
+        // 서킷 브레이커/벌크헤드 적용 (장애 시 HTTP 호출 없이 즉시 원문 사용)
+        return upstreamResilience.call(UpstreamResilience.DEEPL, () -> webClient.post()
+                        .uri(apiUrl)
+                        .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .timeout(Duration.ofMillis(timeout)))
+                // 캐시 저장(Redis)은 블로킹이므로 Netty 이벤트 루프에서 벗어나 처리
+                .publishOn(voiceScheduler)
+                .map(response -> {
+                    List<String> translations = parseTranslationResponse(response);
+                    if (translations.size() != texts.size()) {
+                        log.warn("Unexpected DeepL response ({} of {} translations). Using original text.",
+                                translations.size(), texts.size());
+                    }
+
+                    List<String> results = new ArrayList<>(texts.size());
+                    for (int i = 0; i < texts.size(); i++) {
+                        results.add(i < translations.size() ? translations.get(i) : null);
+                    }
+                    return results;
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("DeepL API returned null response. Using original text.");
+                    return untranslated(texts);
+                }))
+                .onErrorResume(UpstreamResilience::isRejected, e -> {
+                    log.warn("DeepL call rejected: {}. Using original text.", e.getMessage());
+                    return Mono.just(untranslated(texts));
+                })
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    log.error("DeepL API HTTP error: {} - {}", e.getStatusCode(), e.getMessage());
+                    return Mono.just(untranslated(texts));
+                })
+                .onErrorResume(e -> {
+                    log.error("DeepL translation error: {}", e.getMessage());
+                    return Mono.just(untranslated(texts));
+                });
+    }
+
+    private static List<String> untranslated(List<String> texts) {
+        return new ArrayList<>(Collections.nCopies(texts.size(), (String) null));
+    }
+
+    /**
+     * 번역이 불필요하거나 불가능한 경우 (빈 텍스트, API 키 미설정)
+     */
+    private boolean shouldSkipTranslation(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return true;
+        }
+        if (!isConfigured()) {
+            log.warn("DeepL API key is not configured. Skipping translation.");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 번역 결과만 조회 (DeepL 호출 없음)
+     * Redis 조회가 포함된 블로킹 호출이므로 요청 스레드나 Netty 이벤트 루프가 아닌 곳에서 호출해야 합니다.
+     * 번역이 필요 없는 텍스트(한글 없음, 이름/번호/용어만 있는 명령)는 캐시 대신 로컬 결과를 반환합니다.
+     *
+     * @return 캐시된 영어 번역 또는 로컬 결과, 없으면 null
+     */
+    public String getCachedTranslation(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+
+        TranslationPreprocessor.Prepared prepared = translationPreprocessor.prepare(text);
+        if (prepared.bypass()) {
+            translationPreprocessor.recordBypass(text, prepared.local());
+            return prepared.local();
+        }
+        return translationCache.get(text);
+    }
+
+    /**
+     * DeepL API 응답에서 번역된 텍스트 추출 (요청 텍스트 순서와 동일)
      *
      * 응답 형식:
      * {
@@ -103,23 +363,21 @@ public class DeepLTranslationService {
      *   ]
      * }
      */
-    private String parseTranslationResponse(String response) {
+    private List<String> parseTranslationResponse(String response) {
+        List<String> results = new ArrayList<>();
         try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode translations = root.get("translations");
+            JsonNode translations = objectMapper.readTree(response).get("translations");
 
-            if (translations != null && translations.isArray() && translations.size() > 0) {
-                JsonNode firstTranslation = translations.get(0);
-                JsonNode textNode = firstTranslation.get("text");
-
-                if (textNode != null) {
-                    return textNode.asText();
+            if (translations != null && translations.isArray()) {
+                for (JsonNode translation : translations) {
+                    JsonNode textNode = translation.get("text");
+                    results.add(textNode != null ? textNode.asText() : null);
                 }
             }
         } catch (Exception e) {
             log.error("Failed to parse DeepL response: {}", e.getMessage());
         }
-        return null;
+        return results;
     }
 
     /**
@@ -128,4 +386,51 @@ public class DeepLTranslationService {
     public boolean isConfigured() {
         return apiKey != null && !apiKey.trim().isEmpty();
     }
+
+    /**
+     * 전송 대기 중인 배치
+     * 같은 텍스트의 동시 요청은 한 항목으로 묶어 결과를 함께 전달합니다.
+     */
+    private static final class Batch {
+
+        private final Map<String, List<Sinks.One<String>>> waiters = new LinkedHashMap<>();
+        private int chars;
+
+        void add(String text, Sinks.One<String> sink) {
+            List<Sinks.One<String>> sinks = waiters.computeIfAbsent(text, key -> new ArrayList<>(1));
+            if (sinks.isEmpty()) {
+                chars += text.length();
+            }
+            sinks.add(sink);
+        }
+
+        boolean contains(String text) {
+            return waiters.containsKey(text);
+        }
+
+        int size() {
+            return waiters.size();
+        }
+
+        int chars() {
+            return chars;
+        }
+
+        List<String> texts() {
+            return List.copyOf(waiters.keySet());
+        }
+
+        /**
+         * @param result 번역 결과, 실패 시 null (호출자는 원본 텍스트 사용)
+         */
+        void complete(String text, String result) {
+            for (Sinks.One<String> sink : waiters.getOrDefault(text, List.of())) {
+                if (result == null) {
+                    sink.tryEmitEmpty();
+                } else {
+                    sink.tryEmitValue(result);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.config.RateLimitConfig;
+import io.lettuce.core.ClientOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분산 Rate Limiter (Redis Sliding Window Counter + 로컬 near-cache)
+ *
+ * 노드별 로컬 버킷만 사용하면 N개 노드에서 클라이언트가 한도의 N배를 사용할 수 있고 재시작 시 초기화됩니다.
+ * 분산 모드(rate-limit.distributed.enabled)에서는 Redis의 윈도우별 카운트를 모든 노드가 공유합니다.
+ *
+ * - Redis 호출 시 확인 + 증가 + 만료를 Lua 스크립트 한 번으로 원자적으로 처리 (시간은 Redis 서버 기준)
+ * - 호출 후 남은 한도의 localShare만큼은 Redis 없이 로컬에서 허용하고, 다음 호출 때 함께 반영
+ *   (한도에 여유가 큰 클라이언트만 해당, 한도 근처에서는 요청마다 Redis 확인)
+ * - 거부되면 syncIntervalMs 동안 로컬에서 바로 거부
+ * - Redis 오류 시 redisRetryMs 동안 UNAVAILABLE을 반환하여 호출자가 로컬 한도를 사용
+ * - 모든 요청 경로에서 호출되므로 전용 Redis 연결을 사용하고 명령 타임아웃(commandTimeoutMs)을 짧게 설정
+ *   (공용 연결의 긴 타임아웃으로 Redis 장애 시 요청 스레드가 묶이지 않도록, 연결이 끊긴 동안은 즉시 실패)
+ *
+ * 메트릭:
+ * - rate.limit.distributed.requests{path=local|redis|blocked|unavailable}: 처리 경로별 요청 수
+ * - rate.limit.distributed.redis.errors: Redis 호출 실패 횟수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DistributedRateLimiter {
+
+    /**
+     * Redis를 사용할 수 없음 (호출자가 로컬 한도 적용)
+     */
+    public static final int UNAVAILABLE = -2;
+
+    private final RateLimitConfig rateLimitConfig;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Rate Limit 전용 연결 (분산 모드에서만 생성)
+     */
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "rate:";
+
+    /**
+     * 로컬 허용분 반영 후 요청 1건 확인 (Sliding Window Counter)
+     * KEYS[1]: 클라이언트 해시 키 (필드: 윈도우 번호), ARGV[1]: 로컬 허용분, ARGV[2]: 한도, ARGV[3]: 윈도우(초)
+     * 반환: {허용 여부(1/0), 추정 요청 수, 현재 윈도우 종료까지 남은 밀리초}
+     */
+    private static final RedisScript<List> CONSUME_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local nowMs = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local periodMs = tonumber(ARGV[3]) * 1000
+            local window = math.floor(nowMs / periodMs)
+            local intoWindow = nowMs - window * periodMs
+            local committed = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            if committed > 0 then
+                redis.call('HINCRBY', KEYS[1], window, committed)
+            end
+            local current = tonumber(redis.call('HGET', KEYS[1], window) or '0')
+            local previous = tonumber(redis.call('HGET', KEYS[1], window - 1) or '0')
+            local estimate = math.floor(previous * (periodMs - intoWindow) / periodMs) + current
+            local allowed = 0
+            if estimate < limit then
+                redis.call('HINCRBY', KEYS[1], window, 1)
+                estimate = estimate + 1
+                allowed = 1
+            end
+            redis.call('HDEL', KEYS[1], window - 2)
+            redis.call('PEXPIRE', KEYS[1], periodMs * 2)
+            return {allowed, estimate, periodMs - intoWindow}
+            """, List.class);
+
+    /**
+     * Redis 오류 후 로컬 한도만 사용하는 종료 시각 (System.nanoTime)
+     */
+    private volatile long unavailableUntil = System.nanoTime();
+
+    private Counter localCounter;
+    private Counter redisCounter;
+    private Counter blockedCounter;
+    private Counter unavailableCounter;
+    private Counter errorCounter;
+
+    @PostConstruct
+    public void init() {
+        localCounter = requestCounter("local");
+        redisCounter = requestCounter("redis");
+        blockedCounter = requestCounter("blocked");
+        unavailableCounter = requestCounter("unavailable");
+        errorCounter = Counter.builder("rate.limit.distributed.redis.errors")
+                .description("분산 Rate Limit Redis 호출 실패 횟수")
+                .register(meterRegistry);
+
+        if (isEnabled()) {
+            connectionFactory = createConnectionFactory();
+            redisTemplate = new StringRedisTemplate(connectionFactory);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    /**
+     * 공용 연결과 같은 서버, 짧은 명령 타임아웃의 전용 연결 생성
+     */
+    private LettuceConnectionFactory createConnectionFactory() {
+        RedisStandaloneConfiguration server = redisConnectionFactory instanceof LettuceConnectionFactory lettuce
+                ? lettuce.getStandaloneConfiguration()
+                : new RedisStandaloneConfiguration();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(rateLimitConfig.getDistributed().getCommandTimeoutMs()))
+                .clientOptions(ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(server, clientConfiguration);
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    public boolean isEnabled() {
+        return rateLimitConfig.getDistributed().isEnabled();
+    }
+
+    /**
+     * 클라이언트 상태 생성 (엔드포인트 유형/클라이언트별로 한 번)
+     *
+     * @param namespace 엔드포인트 유형 등 키 구분자
+     */
+    public ClientState newState(String namespace, String clientKey, int limit, int periodSeconds) {
+        return new ClientState(KEY_PREFIX + namespace + ":" + clientKey, limit, periodSeconds);
+    }
+
+    /**
+     * 요청 허용 여부 확인 및 카운트 증가
+     *
+     * @param nowNanos System.nanoTime() 값
+     * @return 허용되면 남은 요청 수 (0 이상), 제한 초과면 -1, Redis를 사용할 수 없으면 UNAVAILABLE
+     */
+    public int tryConsume(ClientState state, long nowNanos) {
+        if (nowNanos - unavailableUntil < 0) {
+            unavailableCounter.increment();
+            return UNAVAILABLE;
+        }
+
+        state.lastAccessNanos = nowNanos;
+
+        if (nowNanos - state.syncDeadlineNanos < 0) {
+            if (state.blocked) {
+                blockedCounter.increment();
+                return -1;
+            }
+            if (state.localBudget.getAndDecrement() > 0) {
+                int pending = state.pending.incrementAndGet();
+                localCounter.increment();
+                return Math.max(0, state.limit - state.globalCount - pending);
+            }
+        }
+
+        return sync(state, nowNanos);
+    }
+
+    /**
+     * 로컬 허용분을 Redis에 반영하면서 이번 요청 확인, 다음 로컬 허용분 갱신
+     */
+    private int sync(ClientState state, long nowNanos) {
+        state.localBudget.set(0);
+        int committed = state.pending.getAndSet(0);
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(CONSUME_SCRIPT, List.of(state.redisKey),
+                    String.valueOf(committed),
+                    String.valueOf(state.limit),
+                    String.valueOf(state.periodSeconds));
+        } catch (Exception e) {
+            // 반영하지 못한 로컬 허용분은 복구 후 다음 호출에 반영
+            state.pending.addAndGet(committed);
+            errorCounter.increment();
+            unavailableCounter.increment();
+            long retryNanos = TimeUnit.MILLISECONDS.toNanos(rateLimitConfig.getDistributed().getRedisRetryMs());
+            unavailableUntil = nowNanos + retryNanos;
+            log.warn("Distributed rate limit unavailable, using local limits for {}ms: {}",
+                    rateLimitConfig.getDistributed().getRedisRetryMs(), e.getMessage());
+            return UNAVAILABLE;
+        }
+        redisCounter.increment();
+
+        boolean allowed = ((Number) result.get(0)).longValue() == 1;
+        int estimate = ((Number) result.get(1)).intValue();
+        long windowRemainingNanos = TimeUnit.MILLISECONDS.toNanos(((Number) result.get(2)).longValue());
+
+        // 윈도우가 바뀌면 직전 윈도우 가중치가 달라지므로 그 전에 다시 동기화
+        long syncNanos = TimeUnit.MILLISECONDS.toNanos(rateLimitConfig.getDistributed().getSyncIntervalMs());
+        state.globalCount = estimate;
+        state.windowEndNanos = nowNanos + windowRemainingNanos;
+        state.blocked = !allowed;
+        state.syncDeadlineNanos = nowNanos + Math.min(syncNanos, windowRemainingNanos);
+
+        int headroom = Math.max(0, state.limit - estimate);
+        if (!allowed) {
+            return -1;
+        }
+        state.localBudget.set((int) (headroom * rateLimitConfig.getDistributed().getLocalShare()));
+        return headroom;
+    }
+
+    private Counter requestCounter(String path) {
+        return Counter.builder("rate.limit.distributed.requests")
+                .tag("path", path)
+                .description("분산 Rate Limit 처리 경로별 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트별 near-cache 상태 (마지막 Redis 결과 + 아직 반영하지 않은 로컬 허용분)
+     */
+    public static final class ClientState {
+        private final String redisKey;
+        private final int limit;
+        private final int periodSeconds;
+
+        /**
+         * Redis 호출 없이 허용할 수 있는 남은 요청 수
+         */
+        private final AtomicInteger localBudget = new AtomicInteger();
+
+        /**
+         * 로컬에서 허용했지만 Redis에 아직 반영하지 않은 요청 수
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile int globalCount;
+        private volatile boolean blocked;
+        private volatile long syncDeadlineNanos;
+        private volatile long windowEndNanos;
+        private volatile long lastAccessNanos;
+
+        private ClientState(String redisKey, int limit, int periodSeconds) {
+            this.redisKey = redisKey;
+            this.limit = limit;
+            this.periodSeconds = Math.max(periodSeconds, 1);
+            long now = System.nanoTime();
+            this.syncDeadlineNanos = now;
+            this.windowEndNanos = now;
+            this.lastAccessNanos = now;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        /**
+         * 현재 윈도우가 끝날 때까지 남은 시간 (초, 최소 1)
+         */
+        public long getSecondsUntilReset(long nowNanos) {
+            long remaining = windowEndNanos - nowNanos;
+            if (remaining <= 0) {
+                return 1;
+            }
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        /**
+         * 2개 윈도우 이상 요청이 없었는지 (정리용, Redis 키도 이때쯤 만료됨)
+         */
+        public boolean isStale(long nowNanos) {
+            return nowNanos - lastAccessNanos > TimeUnit.SECONDS.toNanos(periodSeconds * 2L);
+        }
+    }
+}
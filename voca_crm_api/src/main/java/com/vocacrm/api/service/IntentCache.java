@@ -0,0 +1,122 @@
+package com.vocacrm.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vocacrm.api.dto.AiAnalysisResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 의도 분석 결과 캐시
+ *
+ * Ollama 호출은 temperature 0.0으로 결정적이므로 (모델명, 프롬프트)가 같으면
+ * 결과도 같습니다. 반복 명령은 LLM 호출 없이 캐시된 AiAnalysisResult를 반환합니다.
+ *
+ * 모델이 바뀌면 캐시 키가 달라지며, 현재 모델과 다른 모델로 조회되면 전체 캐시를 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntentCache {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.intent-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.intent-cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${ai.intent-cache.ttl-minutes:360}")
+    private long ttlMinutes;
+
+    private Cache<String, AiAnalysisResult> cache;
+
+    /**
+     * 마지막으로 캐시에 사용된 모델명 (모델 변경 감지용)
+     */
+    private volatile String currentModel;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.intent");
+    }
+
+    /**
+     * 캐시된 분석 결과 조회
+     *
+     * @return 캐시된 결과의 복사본, 없으면 null
+     */
+    public AiAnalysisResult get(String model, String prompt) {
+        if (!enabled || prompt == null) {
+            return null;
+        }
+
+        checkModel(model);
+
+        AiAnalysisResult cached = cache.getIfPresent(key(model, prompt));
+        // 호출자가 parameters 맵을 수정해도 캐시 원본이 바뀌지 않도록 복사본 반환
+        return cached != null ? copy(cached) : null;
+    }
+
+    /**
+     * 분석 결과 저장
+     * 에러 결과(ERROR 카테고리)는 일시적인 실패일 수 있으므로 저장하지 않습니다.
+     */
+    public void put(String model, String prompt, AiAnalysisResult result) {
+        if (!enabled || prompt == null || result == null || result.getCategory() == null || result.isError()) {
+            return;
+        }
+
+        checkModel(model);
+        cache.put(key(model, prompt), copy(result));
+    }
+
+    /**
+     * 전체 캐시 무효화 (Modelfile 재배포 등)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("AI intent cache invalidated");
+    }
+
+    /**
+     * 모델명이 바뀌었으면 이전 모델의 결과를 모두 제거
+     */
+    private void checkModel(String model) {
+        String previous = currentModel;
+        if (previous != null && previous.equals(model)) {
+            return;
+        }
+        synchronized (this) {
+            if (currentModel != null && !currentModel.equals(model)) {
+                log.info("AI model changed ({} -> {}), invalidating intent cache", currentModel, model);
+                cache.invalidateAll();
+            }
+            currentModel = model;
+        }
+    }
+
+    private String key(String model, String prompt) {
+        return model + '\u0000' + prompt;
+    }
+
+    private AiAnalysisResult copy(AiAnalysisResult result) {
+        return objectMapper.convertValue(result, AiAnalysisResult.class);
+    }
+}
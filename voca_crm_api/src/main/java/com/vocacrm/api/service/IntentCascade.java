@@ -0,0 +1,290 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.config.AiCascadeConfig;
+import com.vocacrm.api.dto.AiAnalysisResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AI 의도 분석 2단계 모델 판정
+ *
+ * 작은 모델 결과를 그대로 쓸지, 큰 모델로 다시 분석할지 결정합니다.
+ *
+ * - 검증: 처리 가능한 category/action인지, 액션에 필요한 파라미터(searchCriteria, memberData.name, content 등)가 있는지
+ * - 신뢰도: 검색 조건/회원 정보 값이 번역문에 실제로 있는지 (번역 전처리로 이름/번호는 원문 그대로 유지됨)
+ *   값마다 0.5씩 감점하며, 카테고리별 기준(ai.cascade.categories.*.min-confidence) 미만이면 전환
+ * - 카테고리별 설정: 항상 큰 모델 사용, 특정 액션(삭제 등)만 큰 모델 사용
+ *
+ * 메트릭:
+ * - ai.cascade.tier{tier=small|large}: 단계별 분석 시간 (재시도 포함)
+ * - ai.cascade.requests: 2단계 분석 요청 수
+ * - ai.cascade.escalations{reason=invalid|missing_parameter|low_confidence|error|policy|failure}: 큰 모델 전환 수
+ * - ai.cascade.confidence: 작은 모델 결과 신뢰도 분포 (검증 통과 결과만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntentCascade {
+
+    public static final String TIER_SMALL = "small";
+    public static final String TIER_LARGE = "large";
+
+    public static final String REASON_INVALID = "invalid";
+    public static final String REASON_MISSING_PARAMETER = "missing_parameter";
+    public static final String REASON_LOW_CONFIDENCE = "low_confidence";
+    public static final String REASON_ERROR = "error";
+    public static final String REASON_POLICY = "policy";
+    public static final String REASON_FAILURE = "failure";
+
+    /**
+     * 음성 명령 처리에서 지원하는 카테고리별 액션
+     */
+    private static final Map<String, Set<String>> ACTIONS = Map.of(
+            "MEMBER", Set.of("SEARCH", "CREATE", "UPDATE", "DELETE", "GET_ALL"),
+            "MEMO", Set.of("GET_BY_MEMBER", "GET_LATEST", "CREATE", "UPDATE_LATEST", "DELETE_LATEST", "DELETE_ALL"),
+            "VISIT", Set.of("CHECKIN", "GET_BY_MEMBER"),
+            "STATISTICS", Set.of("GET_HOME", "GET_RECENT_ACTIVITIES")
+    );
+
+    /**
+     * 번역문에 값이 있는지 확인하는 검색 조건/회원 정보 필드
+     */
+    private static final Set<String> GROUNDED_FIELDS = Set.of("name", "memberNumber", "phone", "email");
+
+    private static final double UNGROUNDED_PENALTY = 0.5;
+
+    private final AiCascadeConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private Counter requestCounter;
+    private DistributionSummary confidenceSummary;
+
+    @PostConstruct
+    public void init() {
+        requestCounter = Counter.builder("ai.cascade.requests")
+                .description("2단계 의도 분석 요청 수")
+                .register(meterRegistry);
+        confidenceSummary = DistributionSummary.builder("ai.cascade.confidence")
+                .description("작은 모델 분석 결과 신뢰도")
+                .publishPercentiles(0.1, 0.5, 0.9)
+                .register(meterRegistry);
+
+        if (config.isEnabled()) {
+            log.info("AI intent cascade enabled: small={}, minConfidence={}", config.getSmallModel(), config.getMinConfidence());
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public String getSmallModel() {
+        return config.getSmallModel();
+    }
+
+    public int getSmallNumPredict() {
+        return config.getSmallNumPredict();
+    }
+
+    public Duration getSmallTimeout() {
+        return Duration.ofMillis(config.getSmallTimeout());
+    }
+
+    /**
+     * 의도 캐시에 사용할 모델 키
+     * 2단계 분석 시 두 모델 조합을 키로 사용하므로 모델/사용 여부가 바뀌면 캐시가 비워집니다.
+     */
+    public String cacheModel(String largeModel) {
+        return config.isEnabled() ? config.getSmallModel() + ">" + largeModel : largeModel;
+    }
+
+    /**
+     * 단계별 분석 시간 기록
+     */
+    public <T> Mono<T> time(String tier, Mono<T> source) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return source.doFinally(signal -> sample.stop(Timer.builder("ai.cascade.tier")
+                    .tag("tier", tier)
+                    .description("2단계 의도 분석 단계별 소요 시간")
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(60))
+                    .register(meterRegistry)));
+        });
+    }
+
+    public void recordRequest() {
+        requestCounter.increment();
+    }
+
+    /**
+     * 작은 모델 결과 판정
+     *
+     * @param result         작은 모델 분석 결과
+     * @param translatedText 모델 입력 번역문
+     * @return 결과 사용 또는 큰 모델 전환 (전환 사유는 메트릭에 기록)
+     */
+    public Decision evaluate(AiAnalysisResult result, String translatedText) {
+        if (result.isError()) {
+            return escalate(REASON_ERROR);
+        }
+
+        String category = upper(result.getCategory());
+        String action = upper(result.getAction());
+        Set<String> actions = ACTIONS.get(category);
+        if (actions == null || action == null || !actions.contains(action)) {
+            return escalate(REASON_INVALID);
+        }
+
+        AiCascadeConfig.CategoryOverride override = config.getCategories().get(category);
+        if (override != null && (override.isAlwaysEscalate() || override.getEscalateActions().contains(action))) {
+            return escalate(REASON_POLICY);
+        }
+
+        if (!hasRequiredParameters(result, category, action)) {
+            return escalate(REASON_MISSING_PARAMETER);
+        }
+
+        double confidence = confidence(result, translatedText);
+        confidenceSummary.record(confidence);
+
+        double minConfidence = override != null && override.getMinConfidence() != null
+                ? override.getMinConfidence()
+                : config.getMinConfidence();
+        if (confidence < minConfidence) {
+            log.debug("Small model confidence {} < {} for {}/{}", confidence, minConfidence, category, action);
+            return escalate(REASON_LOW_CONFIDENCE);
+        }
+
+        return new Decision(result, null);
+    }
+
+    /**
+     * 큰 모델 전환 기록
+     */
+    public Decision escalate(String reason) {
+        Counter.builder("ai.cascade.escalations")
+                .tag("reason", reason)
+                .description("작은 모델 결과를 버리고 큰 모델로 전환한 수")
+                .register(meterRegistry)
+                .increment();
+        return new Decision(null, reason);
+    }
+
+    /**
+     * 액션별 필수 파라미터 확인 (VoiceCommandService에서 MISSING_PARAMETER를 반환하는 조건과 동일)
+     */
+    private static boolean hasRequiredParameters(AiAnalysisResult result, String category, String action) {
+        boolean needsMember = switch (category) {
+            case "MEMBER" -> !"CREATE".equals(action) && !"GET_ALL".equals(action);
+            case "MEMO", "VISIT" -> true;
+            default -> false;
+        };
+        if (needsMember && isEmpty(result.getSearchCriteria())) {
+            return false;
+        }
+
+        if ("MEMBER".equals(category)) {
+            if ("CREATE".equals(action)) {
+                Map<String, Object> memberData = result.getMemberData();
+                return memberData != null && memberData.get("name") != null;
+            }
+            if ("UPDATE".equals(action)) {
+                return !isEmpty(result.getUpdateFields());
+            }
+        }
+
+        if ("MEMO".equals(category) && ("CREATE".equals(action) || "UPDATE_LATEST".equals(action))) {
+            String content = result.getContent();
+            return content != null && !content.trim().isEmpty();
+        }
+
+        return true;
+    }
+
+    /**
+     * 검색 조건/회원 정보 값이 번역문에 있는 비율로 신뢰도 계산 (모델이 지어낸 값 감지)
+     */
+    private static double confidence(AiAnalysisResult result, String translatedText) {
+        if (translatedText == null) {
+            return 1.0;
+        }
+
+        String text = translatedText.toLowerCase(Locale.ROOT);
+        String digits = digits(translatedText);
+
+        int ungrounded = countUngrounded(result.getSearchCriteria(), text, digits)
+                + countUngrounded(result.getMemberData(), text, digits);
+
+        return Math.max(0.0, 1.0 - ungrounded * UNGROUNDED_PENALTY);
+    }
+
+    private static int countUngrounded(Map<String, Object> values, String text, String digits) {
+        if (values == null) {
+            return 0;
+        }
+
+        int ungrounded = 0;
+        for (String field : GROUNDED_FIELDS) {
+            Object value = values.get(field);
+            if (value == null || value.toString().isBlank()) {
+                continue;
+            }
+
+            String expected = value.toString();
+            boolean grounded = "phone".equals(field) || "memberNumber".equals(field)
+                    ? !digits(expected).isEmpty() && digits.contains(digits(expected))
+                    : text.contains(expected.toLowerCase(Locale.ROOT).trim());
+            if (!grounded) {
+                ungrounded++;
+            }
+        }
+        return ungrounded;
+    }
+
+    private static String digits(String value) {
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private static boolean isEmpty(Map<String, Object> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static String upper(String value) {
+        return value == null ? null : value.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 판정 결과
+     *
+     * @param result 사용할 작은 모델 결과 (전환 시 null)
+     * @param reason 큰 모델 전환 사유 (사용 시 null)
+     */
+    public record Decision(AiAnalysisResult result, String reason) {
+
+        public boolean accepted() {
+            return reason == null;
+        }
+    }
+}
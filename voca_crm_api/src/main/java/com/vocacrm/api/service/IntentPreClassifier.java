@@ -0,0 +1,23 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.dto.AiAnalysisResult;
+
+import java.util.Optional;
+
+/**
+ * AI 분석 이전 단계의 의도 분류기
+ *
+ * 고정된 패턴의 명령을 번역/LLM 호출 없이 AiAnalysisResult로 변환합니다.
+ * 확신할 수 없는 명령은 빈 값을 반환하여 AI 분석으로 넘깁니다.
+ * 여러 구현체가 등록되면 @Order 순서대로 시도합니다.
+ */
+public interface IntentPreClassifier {
+
+    /**
+     * 음성 명령 분류
+     *
+     * @param text 음성 인식된 원문 (한국어)
+     * @return 분류 결과, 확신할 수 없으면 빈 값
+     */
+    Optional<AiAnalysisResult> classify(String text);
+}
@@ -0,0 +1,391 @@
+package com.vocacrm.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vocacrm.api.model.Member;
+import com.vocacrm.api.repository.MemberRepository;
+import com.vocacrm.api.util.HangulUtils;
+import com.vocacrm.api.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 사업장별 회원 이름/전화번호 메모리 인덱스
+ *
+ * 이름 검색(LIKE '%이름%')은 인덱스를 사용하지 못하고, 음성 인식 오류("김철쑤")에도 대응하지 못하므로
+ * 사업장 단위로 삭제되지 않은 회원의 이름/초성/자모/전화번호를 메모리에 보관하여 검색합니다.
+ *
+ * - 이름 검색 순서: 초성 검색("ㄱㅊㅅ") → 완전 일치 → 부분 일치
+ * - 유사 이름 검색: 자모 편집 거리 최소 후보 (근사 결과이므로 호출부에서 확인 단계를 거쳐야 함)
+ * - 전화번호 검색: 숫자만 비교, 뒷자리 일치 우선 → 부분 일치
+ * - 회원 생성/수정/삭제/복원 시 트랜잭션 커밋 후 증분 반영, 다른 노드에는 Redis 채널로 사업장 인덱스 폐기 전파
+ *   (Redis 장애 시 다른 노드는 TTL까지 이전 인덱스 사용)
+ * - 인덱스가 없는 사업장(콜드)은 DB 검색으로 처리하고 백그라운드에서 인덱스 적재
+ * - 인덱스는 후보 선정과 순위만 담당하며, 결과 회원 엔티티는 검색마다 PK IN 조회 1회로 다시 읽음
+ *   (LIKE 전체 스캔은 없어지지만 DB 왕복 자체는 남음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNameIndex implements MessageListener {
+
+    private final MemberRepository memberRepository;
+    private final Scheduler voiceScheduler;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private static final String INVALIDATE_CHANNEL = "member-index:invalidate";
+
+    /**
+     * 자신이 보낸 폐기 메시지 구분용 (자기 노드는 이미 증분 반영함)
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${member-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${member-index.max-places:1000}")
+    private long maxPlaces;
+
+    @Value("${member-index.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    private Cache<String, PlaceIndex> places;
+
+    /**
+     * 사업장별 변경 버전 (적재 중 커밋된 변경이 오래된 스냅샷으로 덮이지 않도록 확인)
+     */
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        places = Caffeine.newBuilder()
+                .maximumSize(maxPlaces)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, places, "member.index");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 이름 검색 (초성/완전 일치/부분 일치만, 유사 이름은 {@link #searchBySimilarName})
+     *
+     * @return 순위순 회원 목록, 인덱스가 준비되지 않았으면 empty (DB 검색 필요)
+     */
+    public Optional<List<Member>> searchByName(String businessPlaceId, String name) {
+        PlaceIndex index = indexOf(businessPlaceId);
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        String query = HangulUtils.normalize(name);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Entry> entries = List.copyOf(index.entries().values());
+        List<Entry> ranked;
+
+        if (HangulUtils.isChoseongOnly(query)) {
+            ranked = filterRanked(entries, e -> e.choseong().contains(query),
+                    Comparator.comparing((Entry e) -> !e.choseong().startsWith(query))
+                            .thenComparingInt(e -> e.name().length()));
+        } else {
+            ranked = filterRanked(entries, e -> e.name().equals(query), Comparator.comparing(Entry::name));
+            if (ranked.isEmpty()) {
+                ranked = filterRanked(entries, e -> e.name().contains(query),
+                        Comparator.comparing((Entry e) -> !e.name().startsWith(query))
+                                .thenComparingInt(e -> e.name().length()));
+            }
+        }
+
+        return Optional.of(loadMembers(businessPlaceId, ranked));
+    }
+
+    /**
+     * 유사 이름 검색 (음성 인식 오류 보정: "김철쑤" → 김철수)
+     *
+     * 완전/부분 일치가 없을 때만 사용하는 근사 결과입니다.
+     * 다른 회원일 수 있으므로 변경 작업 전에는 반드시 사용자 확인을 거쳐야 합니다.
+     *
+     * @return 자모 편집 거리가 가장 작은 회원 목록, 인덱스가 준비되지 않았으면 empty
+     */
+    public Optional<List<Member>> searchBySimilarName(String businessPlaceId, String name) {
+        PlaceIndex index = indexOf(businessPlaceId);
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        String query = HangulUtils.normalize(name);
+        if (query.isEmpty() || HangulUtils.isChoseongOnly(query)) {
+            return Optional.empty();
+        }
+
+        List<Entry> ranked = closestByJamo(List.copyOf(index.entries().values()), query);
+        return Optional.of(loadMembers(businessPlaceId, ranked));
+    }
+
+    /**
+     * 전화번호 검색 (숫자만 비교)
+     *
+     * @return 뒷자리 일치 우선 회원 목록, 인덱스가 준비되지 않았으면 empty (DB 검색 필요)
+     */
+    public Optional<List<Member>> searchByPhone(String businessPlaceId, String phone) {
+        String digits = HangulUtils.digitsOnly(phone);
+        if (digits.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PlaceIndex index = indexOf(businessPlaceId);
+        if (index == null) {
+            return Optional.empty();
+        }
+
+        List<Entry> entries = List.copyOf(index.entries().values());
+        List<Entry> ranked = filterRanked(entries, e -> e.phone().endsWith(digits), Comparator.comparing(Entry::phone));
+        if (ranked.isEmpty()) {
+            ranked = filterRanked(entries, e -> e.phone().contains(digits), Comparator.comparing(Entry::phone));
+        }
+
+        return Optional.of(loadMembers(businessPlaceId, ranked));
+    }
+
+    /**
+     * 회원 생성/수정/복원 반영 (트랜잭션 커밋 후)
+     */
+    public void onSaved(Member member) {
+        if (member == null || member.getId() == null) {
+            return;
+        }
+        String businessPlaceId = member.getBusinessPlaceId();
+        UUID memberId = member.getId();
+        Entry entry = Boolean.TRUE.equals(member.getIsDeleted()) ? null : Entry.of(member);
+
+        afterCommit(businessPlaceId, index -> {
+            if (entry == null) {
+                index.entries().remove(memberId);
+            } else {
+                index.entries().put(memberId, entry);
+            }
+        });
+    }
+
+    /**
+     * 회원 삭제(soft/hard) 반영 (트랜잭션 커밋 후)
+     */
+    public void onRemoved(String businessPlaceId, UUID memberId) {
+        afterCommit(businessPlaceId, index -> index.entries().remove(memberId));
+    }
+
+    /**
+     * 사업장 인덱스 전체 폐기 (사업장 삭제 등 일괄 변경 후)
+     */
+    public void invalidate(String businessPlaceId) {
+        afterCommit(businessPlaceId, index -> places.invalidate(businessPlaceId));
+    }
+
+    /**
+     * 다른 노드의 회원 변경 메시지 처리 (해당 사업장 인덱스 폐기, 다음 검색에서 다시 적재)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator < 0) {
+            log.warn("Ignoring malformed member index invalidate message: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        String businessPlaceId = body.substring(separator + 1);
+        apply(businessPlaceId, index -> places.invalidate(businessPlaceId));
+    }
+
+    /**
+     * 커밋 후 로컬 인덱스에 반영하고 다른 노드에 전파
+     */
+    private void afterCommit(String businessPlaceId, Consumer<PlaceIndex> change) {
+        TransactionUtils.afterCommit(() -> {
+            apply(businessPlaceId, change);
+            publish(businessPlaceId);
+        });
+    }
+
+    private void publish(String businessPlaceId) {
+        if (businessPlaceId == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + "|" + businessPlaceId);
+        } catch (Exception e) {
+            log.warn("Failed to publish member index invalidate ({}), other nodes keep index for up to {}m: {}",
+                    businessPlaceId, ttlMinutes, e.getMessage());
+        }
+    }
+
+    private PlaceIndex indexOf(String businessPlaceId) {
+        if (!enabled || businessPlaceId == null) {
+            return null;
+        }
+
+        PlaceIndex index = places.getIfPresent(businessPlaceId);
+        if (index == null) {
+            warmUp(businessPlaceId);
+        }
+        return index;
+    }
+
+    /**
+     * 콜드 사업장 인덱스 백그라운드 적재 (사업장당 동시에 한 번만)
+     */
+    private void warmUp(String businessPlaceId) {
+        if (!loading.add(businessPlaceId)) {
+            return;
+        }
+
+        try {
+            voiceScheduler.schedule(() -> {
+                try {
+                    load(businessPlaceId);
+                } catch (Exception e) {
+                    log.warn("Member index load failed for {}: {}", businessPlaceId, e.getMessage());
+                } finally {
+                    loading.remove(businessPlaceId);
+                }
+            });
+        } catch (Exception e) {
+            // 작업 큐가 가득 찬 경우: 다음 검색에서 다시 시도
+            loading.remove(businessPlaceId);
+            log.debug("Member index load not scheduled for {}: {}", businessPlaceId, e.getMessage());
+        }
+    }
+
+    private void load(String businessPlaceId) {
+        long version = versions.getOrDefault(businessPlaceId, 0L);
+
+        List<Member> members = memberRepository.findByBusinessPlaceIdAndIsDeletedFalse(businessPlaceId);
+        PlaceIndex index = new PlaceIndex(new ConcurrentHashMap<>(members.size() * 2));
+        for (Member member : members) {
+            index.entries().put(member.getId(), Entry.of(member));
+        }
+
+        versions.compute(businessPlaceId, (key, current) -> {
+            long latest = current == null ? 0L : current;
+            // 조회 이후 커밋된 변경이 있으면 스냅샷을 버리고 다음 검색에서 다시 적재
+            if (latest == version) {
+                places.put(businessPlaceId, index);
+            }
+            return current;
+        });
+
+        log.debug("Member index loaded for {}: {} members", businessPlaceId, members.size());
+    }
+
+    private void apply(String businessPlaceId, Consumer<PlaceIndex> change) {
+        if (businessPlaceId == null) {
+            return;
+        }
+        versions.compute(businessPlaceId, (key, current) -> {
+            PlaceIndex index = places.getIfPresent(businessPlaceId);
+            if (index != null) {
+                change.accept(index);
+            }
+            return current == null ? 1L : current + 1;
+        });
+    }
+
+    /**
+     * 자모 편집 거리가 가장 작은 후보 (허용 거리: 검색어 자모 4개당 1)
+     */
+    private static List<Entry> closestByJamo(List<Entry> entries, String query) {
+        String queryJamo = HangulUtils.decompose(query);
+        int maxDistance = Math.max(1, queryJamo.length() / 4);
+
+        int best = maxDistance + 1;
+        List<Entry> closest = new ArrayList<>();
+        for (Entry entry : entries) {
+            int distance = HangulUtils.editDistance(queryJamo, entry.jamo(), Math.min(best, maxDistance));
+            if (distance < best) {
+                best = distance;
+                closest.clear();
+                closest.add(entry);
+            } else if (distance == best && distance <= maxDistance) {
+                closest.add(entry);
+            }
+        }
+        return closest;
+    }
+
+    private static List<Entry> filterRanked(List<Entry> entries, Predicate<Entry> filter, Comparator<Entry> order) {
+        return entries.stream().filter(filter).sorted(order).toList();
+    }
+
+    /**
+     * 순위 순서대로 회원 조회 (PK 조회, 그 사이 삭제/이동된 회원 제외)
+     */
+    private List<Member> loadMembers(String businessPlaceId, List<Entry> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Member> byId = new HashMap<>();
+        for (Member member : memberRepository.findAllById(ranked.stream().map(Entry::id).toList())) {
+            if (!Boolean.TRUE.equals(member.getIsDeleted()) && businessPlaceId.equals(member.getBusinessPlaceId())) {
+                byId.put(member.getId(), member);
+            }
+        }
+
+        List<Member> result = new ArrayList<>(byId.size());
+        for (Entry entry : ranked) {
+            Member member = byId.get(entry.id());
+            if (member != null) {
+                result.add(member);
+            }
+        }
+        return result;
+    }
+
+    private record PlaceIndex(Map<UUID, Entry> entries) {
+    }
+
+    private record Entry(UUID id, String name, String choseong, String jamo, String phone) {
+
+        static Entry of(Member member) {
+            String name = HangulUtils.normalize(member.getName());
+            return new Entry(member.getId(), name, HangulUtils.choseong(name), HangulUtils.decompose(name),
+                    HangulUtils.digitsOnly(member.getPhone()));
+        }
+    }
+}
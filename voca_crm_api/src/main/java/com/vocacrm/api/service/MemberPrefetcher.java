@@ -0,0 +1,199 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.dto.PrefetchedMembers;
+import com.vocacrm.api.model.Member;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 음성 명령 회원 조회 및 추측 선조회 (Speculative prefetch)
+ *
+ * 회원 대상 명령은 Ollama가 searchCriteria를 돌려준 뒤에야 회원을 조회하지만,
+ * 한국어 원문에 회원번호/이름/전화번호가 그대로 들어 있는 경우가 대부분이므로
+ * 원문에서 검색 조건 후보를 추출하여 번역/AI 분석과 병렬로 미리 조회합니다.
+ * AI가 돌려준 검색 조건이 후보와 같으면 선조회 결과를 사용하고, 다르면 버리고 다시 조회합니다.
+ *
+ * 메트릭:
+ * - voice.member.prefetch{result=hit|miss|unused}: 선조회 결과 사용(hit), 조건 불일치(miss), 회원 검색 없는 명령(unused)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberPrefetcher {
+
+    private final MemberService memberService;
+    private final Scheduler voiceScheduler;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * "1234번", "1234번 김철수"
+     */
+    static final Pattern MEMBER_NUMBER = Pattern.compile("(\\d{1,10})\\s*번(?:\\s*([가-힣]{2,4})(?=\\s|$|회원|고객|님))?");
+
+    static final Pattern PHONE = Pattern.compile("01\\d[-\\s]?\\d{3,4}[-\\s]?\\d{4}");
+
+    /**
+     * 호칭이 붙은 이름 ("김철수 회원", "이영희님")
+     */
+    static final Pattern HONORIFIC_NAME = Pattern.compile("([가-힣]{2,4})\\s*(?:회원님|회원|고객님|고객|님|씨)");
+
+    /**
+     * 문장 첫 단어가 이름인 경우 ("김철수 메모 보여줘")
+     */
+    static final Pattern LEADING_NAME = Pattern.compile("^([가-힣]{2,4})(?:\\s|$)");
+
+    @Value("${voice.prefetch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voice.prefetch.max-candidates:3}")
+    private int maxCandidates;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter unusedCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = prefetchCounter("hit");
+        missCounter = prefetchCounter("miss");
+        unusedCounter = prefetchCounter("unused");
+    }
+
+    /**
+     * 원문에서 추출한 검색 조건 후보로 회원 선조회 (음성 파이프라인 스케줄러에서 실행)
+     * 선조회 실패는 명령 처리에 영향을 주지 않도록 빈 결과로 대체합니다.
+     */
+    public Mono<PrefetchedMembers> prefetch(String text, String businessPlaceId) {
+        if (!enabled || text == null || businessPlaceId == null || businessPlaceId.isEmpty()) {
+            return Mono.just(PrefetchedMembers.empty());
+        }
+
+        return Mono.fromCallable(() -> {
+                    Map<String, List<Member>> results = new LinkedHashMap<>();
+                    for (Candidate candidate : extractCandidates(text)) {
+                        results.put(PrefetchedMembers.key(candidate.memberNumber(), candidate.name(), candidate.phone()),
+                                search(candidate.memberNumber(), candidate.name(), candidate.phone(), null, businessPlaceId));
+                    }
+                    return results.isEmpty() ? PrefetchedMembers.empty() : new PrefetchedMembers(results);
+                })
+                .subscribeOn(voiceScheduler)
+                .onErrorResume(e -> {
+                    log.debug("Member prefetch failed: {}", e.getMessage());
+                    return Mono.just(PrefetchedMembers.empty());
+                });
+    }
+
+    /**
+     * 검색 조건으로 회원 조회 (같은 조건으로 선조회한 결과가 있으면 재사용)
+     */
+    public List<Member> find(PrefetchedMembers prefetched, String memberNumber, String name, String phone,
+                             String email, String businessPlaceId) {
+        if (prefetched != null && !prefetched.isEmpty()) {
+            if (email == null || email.isEmpty()) {
+                List<Member> members = prefetched.find(memberNumber, name, phone).orElse(null);
+                if (members != null) {
+                    hitCounter.increment();
+                    return members;
+                }
+            }
+            missCounter.increment();
+        }
+        return search(memberNumber, name, phone, email, businessPlaceId);
+    }
+
+    /**
+     * 명령 처리 후 회원 검색에 쓰이지 않은 선조회 기록
+     */
+    public void recordUnused(PrefetchedMembers prefetched) {
+        if (prefetched != null && !prefetched.isEmpty() && !prefetched.isConsulted()) {
+            unusedCounter.increment();
+        }
+    }
+
+    private List<Member> search(String memberNumber, String name, String phone, String email, String businessPlaceId) {
+        // 회원번호로 검색
+        if (memberNumber != null && !memberNumber.isEmpty()) {
+            List<Member> members = memberService.getMembersByNumber(memberNumber, businessPlaceId);
+            // 이름도 있으면 추가 필터링
+            if (name != null && !name.isEmpty()) {
+                members = members.stream()
+                        .filter(m -> m.getName().contains(name))
+                        .collect(Collectors.toList());
+            }
+            return members;
+        }
+
+        // 이름, 전화번호, 이메일로 검색 (유사 이름은 확인 단계가 필요하므로 제외)
+        return memberService.searchMembers(null, name, phone, email, businessPlaceId);
+    }
+
+    /**
+     * 원문에서 검색 조건 후보 추출 (회원번호 → 전화번호 → 이름 순, 최대 maxCandidates개)
+     */
+    private List<Candidate> extractCandidates(String text) {
+        String normalized = TranslationCache.normalize(text);
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+
+        Matcher number = MEMBER_NUMBER.matcher(normalized);
+        while (number.find()) {
+            if (number.group(2) != null && !RuleBasedIntentClassifier.NON_NAME_WORDS.contains(number.group(2))) {
+                addCandidate(candidates, new Candidate(number.group(1), number.group(2), null));
+            }
+            addCandidate(candidates, new Candidate(number.group(1), null, null));
+        }
+
+        Matcher phone = PHONE.matcher(normalized);
+        while (phone.find()) {
+            addCandidate(candidates, new Candidate(null, null, phone.group()));
+        }
+
+        boolean honorificFound = false;
+        Matcher honorific = HONORIFIC_NAME.matcher(normalized);
+        while (honorific.find()) {
+            honorificFound = true;
+            addName(candidates, honorific.group(1));
+        }
+
+        // 호칭이 붙은 이름이 없을 때만 첫 단어를 이름으로 간주 ("이영희님"을 4글자 이름으로 오인하지 않도록)
+        Matcher leading = LEADING_NAME.matcher(normalized);
+        if (!honorificFound && leading.find()) {
+            addName(candidates, leading.group(1));
+        }
+
+        return candidates.values().stream().limit(maxCandidates).toList();
+    }
+
+    private static void addName(Map<String, Candidate> candidates, String name) {
+        if (!RuleBasedIntentClassifier.NON_NAME_WORDS.contains(name)) {
+            addCandidate(candidates, new Candidate(null, name, null));
+        }
+    }
+
+    private static void addCandidate(Map<String, Candidate> candidates, Candidate candidate) {
+        candidates.putIfAbsent(PrefetchedMembers.key(candidate.memberNumber(), candidate.name(), candidate.phone()), candidate);
+    }
+
+    private Counter prefetchCounter(String result) {
+        return Counter.builder("voice.member.prefetch")
+                .tag("result", result)
+                .description("AI 분석과 병렬로 미리 조회한 회원 후보 사용 결과")
+                .register(meterRegistry);
+    }
+
+    private record Candidate(String memberNumber, String name, String phone) {
+    }
+}
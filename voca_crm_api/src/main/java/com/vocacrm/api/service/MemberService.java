@@ -6,12 +6,10 @@ import com.vocacrm.api.exception.InvalidInputException;
 import com.vocacrm.api.exception.ResourceNotFoundException;
 import com.vocacrm.api.model.AccessStatus;
 import com.vocacrm.api.model.Member;
-import com.vocacrm.api.model.Memo;
 import com.vocacrm.api.model.Role;
 import com.vocacrm.api.model.User;
 import com.vocacrm.api.model.UserBusinessPlace;
 import com.vocacrm.api.repository.MemberRepository;
-import com.vocacrm.api.repository.MemoRepository;
 import com.vocacrm.api.repository.UserBusinessPlaceRepository;
 import com.vocacrm.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,9 +32,12 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final MemoRepository memoRepository;
     private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
     private final UserRepository userRepository;
+    private final MemberNameIndex memberNameIndex;
+    private final MemoService memoService;
+    private final DailyBriefingService dailyBriefingService;
 
     public Page<Member> getAllMembers(Pageable pageable) {
         return memberRepository.findAll(pageable);
@@ -82,10 +83,7 @@ public class MemberService {
         Member member = getMemberById(memberId);
 
         // 사용자가 해당 회원의 사업장에 접근 권한이 있는지 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(
-                        UUID.fromString(userId), member.getBusinessPlaceId(), AccessStatus.APPROVED
-                );
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), member.getBusinessPlaceId());
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 회원에 대한 접근 권한이 없습니다.");
@@ -119,8 +117,7 @@ public class MemberService {
      */
     public List<Member> getMembersByBusinessPlaceWithUserCheck(String businessPlaceId, String userId) {
         // 사업장 접근 권한 검증
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
 
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
@@ -161,6 +158,10 @@ public class MemberService {
     /**
      * 회원 검색 (사업장 필터 포함 필수, 삭제되지 않은 회원만)
      * ⚠️ businessPlaceId 필수 - 보안상 사업장 필터링 없이 조회 불가
+     *
+     * 이름/전화번호는 메모리 인덱스로 검색 (초성, 전화번호 뒷자리)
+     * 유사 이름(음성 인식 오류 보정)은 포함하지 않음 - {@link #searchMembersBySimilarName} 사용
+     * 인덱스가 아직 적재되지 않은 사업장은 DB 부분 일치 검색
      */
     public List<Member> searchMembers(String memberNumber, String name, String phone, String email, String businessPlaceId) {
         if (businessPlaceId == null || businessPlaceId.isEmpty()) {
@@ -172,10 +173,12 @@ public class MemberService {
             return memberRepository.findByMemberNumberAndBusinessPlaceIdAndIsDeletedFalse(memberNumber, businessPlaceId);
         }
         if (name != null && !name.isEmpty()) {
-            return memberRepository.findByNameContainingAndBusinessPlaceIdAndIsDeletedFalse(name, businessPlaceId);
+            return memberNameIndex.searchByName(businessPlaceId, name)
+                    .orElseGet(() -> memberRepository.findByNameContainingAndBusinessPlaceIdAndIsDeletedFalse(name, businessPlaceId));
         }
         if (phone != null && !phone.isEmpty()) {
-            return memberRepository.findByPhoneContainingAndBusinessPlaceIdAndIsDeletedFalse(phone, businessPlaceId);
+            return memberNameIndex.searchByPhone(businessPlaceId, phone)
+                    .orElseGet(() -> memberRepository.findByPhoneContainingAndBusinessPlaceIdAndIsDeletedFalse(phone, businessPlaceId));
         }
         if (email != null && !email.isEmpty()) {
             return memberRepository.findByEmailContainingAndBusinessPlaceIdAndIsDeletedFalse(email, businessPlaceId);
@@ -184,6 +187,21 @@ public class MemberService {
         return memberRepository.findByBusinessPlaceIdAndIsDeletedFalse(businessPlaceId);
     }
 
+    /**
+     * 유사 이름 회원 검색 (자모 편집 거리, 근사 결과)
+     * 다른 회원일 수 있으므로 변경 작업 전에는 사용자 확인 필요
+     * 인덱스가 아직 적재되지 않은 사업장은 빈 목록
+     */
+    public List<Member> searchMembersBySimilarName(String name, String businessPlaceId) {
+        if (businessPlaceId == null || businessPlaceId.isEmpty()) {
+            throw new IllegalArgumentException("businessPlaceId는 필수입니다 (보안)");
+        }
+        if (name == null || name.isEmpty()) {
+            return List.of();
+        }
+        return memberNameIndex.searchBySimilarName(businessPlaceId, name).orElse(List.of());
+    }
+
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public Member createMember(Member member) {
         // businessPlaceId는 필수입니다
@@ -212,7 +230,9 @@ public class MemberService {
             throw new BusinessException("회원 수가 최대 " + maxMembers + "명을 초과했습니다.", "MEMBER_LIMIT_EXCEEDED");
         }
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        memberNameIndex.onSaved(saved);
+        return saved;
     }
 
     private int getMaxMembers(String tier) {
@@ -235,7 +255,9 @@ public class MemberService {
         if (memberDetails.getLastModifiedById() != null) {
             member.setLastModifiedById(memberDetails.getLastModifiedById());
         }
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        memberNameIndex.onSaved(saved);
+        return saved;
     }
 
     /**
@@ -263,11 +285,15 @@ public class MemberService {
         }
         // 마지막 수정자 설정
         member.setLastModifiedById(UUID.fromString(requestUserId));
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        memberNameIndex.onSaved(saved);
+        return saved;
     }
 
     @Transactional
     public void deleteMember(String id) {
+        memberRepository.findById(UUID.fromString(id))
+                .ifPresent(member -> memberNameIndex.onRemoved(member.getBusinessPlaceId(), member.getId()));
         memberRepository.deleteById(UUID.fromString(id));
     }
 
@@ -281,6 +307,7 @@ public class MemberService {
         Member member = getMemberById(id);
         checkPermissionForDelete(member.getOwnerId(), requestUserId, businessPlaceId);
         memberRepository.deleteById(UUID.fromString(id));
+        memberNameIndex.onRemoved(member.getBusinessPlaceId(), member.getId());
     }
 
     // ===== Soft Delete 관련 메서드 =====
@@ -310,19 +337,11 @@ public class MemberService {
         member.setDeletedAt(LocalDateTime.now());
         member.setDeletedBy(requestUserUuid);
         memberRepository.save(member);
+        memberNameIndex.onRemoved(member.getBusinessPlaceId(), member.getId());
 
-        // 해당 회원의 메모도 함께 soft delete 처리 (배치 저장으로 N+1 방지)
-        List<Memo> memos = memoRepository.findByMemberIdAndBusinessPlaceIdAndIsDeletedFalseOrderByCreatedAtDesc(
-                member.getId(), member.getBusinessPlaceId());
-        if (!memos.isEmpty()) {
-            LocalDateTime now = LocalDateTime.now();
-            for (Memo memo : memos) {
-                memo.setIsDeleted(true);
-                memo.setDeletedAt(now);
-                memo.setDeletedBy(requestUserUuid);
-            }
-            memoRepository.saveAll(memos);
-        }
+        // 해당 회원의 메모도 함께 soft delete 처리 (단일 UPDATE, 회원과 같은 삭제 시각)
+        memoService.cascadeSoftDelete(member.getId(), requestUserUuid, member.getDeletedAt());
+        dailyBriefingService.evict(member.getBusinessPlaceId());
 
         return member;
     }
@@ -373,8 +392,7 @@ public class MemberService {
         }
 
         // 사용자가 해당 사업장에 접근 권한이 있는지 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
         }
@@ -398,8 +416,7 @@ public class MemberService {
         }
 
         // 사용자가 해당 사업장에 접근 권한이 있는지 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
         }
@@ -427,18 +444,11 @@ public class MemberService {
         member.setDeletedAt(null);
         member.setDeletedBy(null);
         memberRepository.save(member);
+        memberNameIndex.onSaved(member);
 
-        // 해당 회원의 메모도 함께 복원 (배치 저장으로 N+1 방지)
-        List<Memo> memos = memoRepository.findByMemberIdAndBusinessPlaceIdAndIsDeletedTrueOrderByDeletedAtDesc(
-                member.getId(), member.getBusinessPlaceId());
-        if (!memos.isEmpty()) {
-            for (Memo memo : memos) {
-                memo.setIsDeleted(false);
-                memo.setDeletedAt(null);
-                memo.setDeletedBy(null);
-            }
-            memoRepository.saveAll(memos);
-        }
+        // 해당 회원의 메모도 함께 복원 (단일 UPDATE)
+        memoService.cascadeRestore(member.getId());
+        dailyBriefingService.evict(member.getBusinessPlaceId());
 
         return member;
     }
@@ -466,11 +476,9 @@ public class MemberService {
      * MANAGER 이상 권한 체크
      */
     private void checkManagerOrAbove(String requestUserId, String businessPlaceId, String action) {
-        UserBusinessPlace requestUserRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(requestUserId), businessPlaceId, AccessStatus.APPROVED)
+        Role role = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
                 .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
-
-        Role role = requestUserRole.getRole();
         if (role != Role.OWNER && role != Role.MANAGER) {
             throw new AccessDeniedException(action + " 권한이 없습니다. MANAGER 이상만 가능합니다.");
         }
@@ -492,12 +500,10 @@ public class MemberService {
      */
     private void checkPermissionForEdit(UUID ownerId, String requestUserId, String businessPlaceId) {
         // 요청자의 role 조회
-        UserBusinessPlace requestUserRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(requestUserId), businessPlaceId, AccessStatus.APPROVED)
+        Role requesterRole = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
                 .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
 
-        Role requesterRole = requestUserRole.getRole();
-
         // 1. OWNER는 모두 수정 가능
         if (requesterRole == Role.OWNER) {
             return;
@@ -514,17 +520,15 @@ public class MemberService {
         }
 
         // 4. 소유자의 role 조회
-        UserBusinessPlace ownerRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(ownerId, businessPlaceId, AccessStatus.APPROVED)
+        Role ownerRoleType = businessPlacePermissionCache
+                .findApprovedRole(ownerId, businessPlaceId)
                 .orElse(null);
 
         // 소유자가 탈퇴한 경우 (null) → 허용
-        if (ownerRole == null) {
+        if (ownerRoleType == null) {
             return;
         }
 
-        Role ownerRoleType = ownerRole.getRole();
-
         // 5. 요청자가 MANAGER인 경우
         if (requesterRole == Role.MANAGER) {
             // OWNER 소유 데이터는 수정 불가
@@ -562,12 +566,10 @@ public class MemberService {
      */
     private void checkPermissionForDelete(UUID ownerId, String requestUserId, String businessPlaceId) {
         // 요청자의 role 조회
-        UserBusinessPlace requestUserRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(requestUserId), businessPlaceId, AccessStatus.APPROVED)
+        Role requesterRole = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
                 .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
 
-        Role requesterRole = requestUserRole.getRole();
-
         // 1. OWNER는 모두 삭제 가능
         if (requesterRole == Role.OWNER) {
             return;
@@ -584,17 +586,15 @@ public class MemberService {
         }
 
         // 4. 소유자의 role 조회
-        UserBusinessPlace ownerRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(ownerId, businessPlaceId, AccessStatus.APPROVED)
+        Role ownerRoleType = businessPlacePermissionCache
+                .findApprovedRole(ownerId, businessPlaceId)
                 .orElse(null);
 
         // 소유자가 탈퇴한 경우 (null) → 허용
-        if (ownerRole == null) {
+        if (ownerRoleType == null) {
             return;
         }
 
-        Role ownerRoleType = ownerRole.getRole();
-
         // 5. 요청자가 MANAGER인 경우
         if (requesterRole == Role.MANAGER) {
             // OWNER 소유 데이터는 삭제 불가
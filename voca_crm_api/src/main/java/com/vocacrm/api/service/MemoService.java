@@ -5,23 +5,27 @@ import com.vocacrm.api.exception.BusinessException;
 import com.vocacrm.api.exception.InvalidInputException;
 import com.vocacrm.api.exception.ResourceNotFoundException;
 import com.vocacrm.api.model.Member;
+import com.vocacrm.api.model.AuditLog.AuditAction;
 import com.vocacrm.api.model.Memo;
 import com.vocacrm.api.repository.MemberRepository;
 import com.vocacrm.api.repository.MemoRepository;
 import com.vocacrm.api.repository.UserBusinessPlaceRepository;
 import com.vocacrm.api.repository.UserRepository;
-import com.vocacrm.api.model.AccessStatus;
 import com.vocacrm.api.model.Role;
 import com.vocacrm.api.model.User;
-import com.vocacrm.api.model.UserBusinessPlace;
 import lombok.RequiredArgsConstructor;
+import com.vocacrm.api.util.TransactionUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -33,7 +37,11 @@ public class MemoService {
     private final MemoRepository memoRepository;
     private final MemberRepository memberRepository;
     private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
     private final UserRepository userRepository;
+    private final DailyBriefingService dailyBriefingService;
+    private final AuditLogService auditLogService;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 메모 ID로 조회 (사업장 권한 검증 포함)
@@ -134,7 +142,9 @@ public class MemoService {
             }
         }
 
-        return memoRepository.save(memo);
+        Memo saved = memoRepository.save(memo);
+        dailyBriefingService.evict(member.getBusinessPlaceId());
+        return saved;
     }
 
     /**
@@ -192,7 +202,9 @@ public class MemoService {
         if (memoDetails.getLastModifiedById() != null) {
             memo.setLastModifiedById(memoDetails.getLastModifiedById());
         }
-        return memoRepository.save(memo);
+        Memo saved = memoRepository.save(memo);
+        dailyBriefingService.evict(businessPlaceId);
+        return saved;
     }
 
     /**
@@ -213,11 +225,16 @@ public class MemoService {
         // 필드 업데이트
         memo.setContent(memoDetails.getContent());
         memo.setLastModifiedById(UUID.fromString(requestUserId));
-        return memoRepository.save(memo);
+        Memo saved = memoRepository.save(memo);
+        dailyBriefingService.evict(businessPlaceId);
+        return saved;
     }
 
     @Transactional
     public void deleteMemo(String id) {
+        memoRepository.findById(UUID.fromString(id))
+                .flatMap(memo -> memberRepository.findById(memo.getMemberId()))
+                .ifPresent(member -> dailyBriefingService.evict(member.getBusinessPlaceId()));
         memoRepository.deleteById(UUID.fromString(id));
     }
 
@@ -231,6 +248,7 @@ public class MemoService {
         Memo memo = getMemoById(id, businessPlaceId);
         checkPermissionForDelete(memo.getOwnerId(), requestUserId, businessPlaceId);
         memoRepository.deleteById(UUID.fromString(id));
+        dailyBriefingService.evict(businessPlaceId);
     }
 
     // ===== Soft Delete 관련 메서드 =====
@@ -259,7 +277,9 @@ public class MemoService {
         memo.setDeletedAt(LocalDateTime.now());
         memo.setDeletedBy(UUID.fromString(requestUserId));
 
-        return memoRepository.save(memo);
+        Memo saved = memoRepository.save(memo);
+        dailyBriefingService.evict(businessPlaceId);
+        return saved;
     }
 
     /**
@@ -305,8 +325,7 @@ public class MemoService {
         }
 
         // 사용자가 해당 사업장에 접근 권한이 있는지 확인
-        boolean hasAccess = userBusinessPlaceRepository
-                .existsByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(userId), businessPlaceId, AccessStatus.APPROVED);
+        boolean hasAccess = businessPlacePermissionCache.hasAccess(UUID.fromString(userId), businessPlaceId);
         if (!hasAccess) {
             throw new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다.");
         }
@@ -343,7 +362,9 @@ public class MemoService {
         memo.setDeletedAt(null);
         memo.setDeletedBy(null);
 
-        return memoRepository.save(memo);
+        Memo saved = memoRepository.save(memo);
+        dailyBriefingService.evict(member.getBusinessPlaceId());
+        return saved;
     }
 
     /**
@@ -364,15 +385,183 @@ public class MemoService {
         memoRepository.deleteById(UUID.fromString(id));
     }
 
+    // ===== 일괄 처리 (회원 단위) =====
+
+    /**
+     * 회원의 메모 일괄 Soft Delete
+     *
+     * 권한은 요청자 Role을 한 번만 조회하고, 메모별 소유자 규칙(softDeleteMemo와 동일)은
+     * UPDATE 조건으로 DB에서 적용합니다. 권한이 없는 메모는 그대로 남고 skippedCount로 반환됩니다.
+     * 감사 로그는 처리 건수와 메모 ID를 모아 한 건만 기록합니다.
+     */
+    @Transactional
+    public BulkMemoResult softDeleteAllByMember(String memberId, String requestUserId, String businessPlaceId) {
+        Member member = getMemberInBusinessPlace(memberId, businessPlaceId);
+
+        Role requesterRole = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
+                .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
+
+        List<UUID> deletedIds = bulkSoftDelete(member.getId(), UUID.fromString(requestUserId), LocalDateTime.now(),
+                requestUserId, businessPlaceId, protectedOwnerRoles(requesterRole));
+        // OWNER는 제외 조건이 없으므로 남은 메모가 없음
+        long skippedCount = requesterRole == Role.OWNER
+                ? 0
+                : memoRepository.countByMemberIdAndIsDeletedFalse(member.getId());
+
+        if (!deletedIds.isEmpty()) {
+            dailyBriefingService.evict(businessPlaceId);
+            auditBulk(requestUserId, businessPlaceId, AuditAction.DELETE, member, deletedIds,
+                    String.format("메모 일괄 삭제 (%d건)", deletedIds.size()));
+        }
+
+        return new BulkMemoResult(deletedIds, skippedCount);
+    }
+
+    /**
+     * 회원의 삭제 대기 메모 일괄 복원
+     * MANAGER 이상만 가능, 회원이 삭제 대기 중이면 복원 불가 (restoreMemo와 동일)
+     */
+    @Transactional
+    public BulkMemoResult restoreAllByMember(String memberId, String requestUserId, String businessPlaceId) {
+        checkManagerOrAbove(requestUserId, businessPlaceId, "복원");
+
+        Member member = getMemberInBusinessPlace(memberId, businessPlaceId);
+        if (Boolean.TRUE.equals(member.getIsDeleted())) {
+            throw new InvalidInputException("삭제 대기 중인 회원의 메모는 복원할 수 없습니다. 먼저 회원을 복원해주세요.");
+        }
+
+        List<UUID> restoredIds = bulkRestore(member.getId());
+
+        if (!restoredIds.isEmpty()) {
+            dailyBriefingService.evict(businessPlaceId);
+            auditBulk(requestUserId, businessPlaceId, AuditAction.RESTORE, member, restoredIds,
+                    String.format("메모 일괄 복원 (%d건)", restoredIds.size()));
+        }
+
+        return new BulkMemoResult(restoredIds, 0);
+    }
+
+    /**
+     * 회원 Soft Delete에 따른 메모 일괄 삭제 (권한은 회원 삭제에서 확인됨)
+     */
+    @Transactional
+    public List<UUID> cascadeSoftDelete(UUID memberId, UUID deletedBy, LocalDateTime deletedAt) {
+        return bulkSoftDelete(memberId, deletedBy, deletedAt, null, null, List.of());
+    }
+
+    /**
+     * 회원 복원에 따른 메모 일괄 복원 (권한은 회원 복원에서 확인됨)
+     */
+    @Transactional
+    public List<UUID> cascadeRestore(UUID memberId) {
+        return bulkRestore(memberId);
+    }
+
+    /**
+     * 단일 UPDATE ... RETURNING으로 Soft Delete
+     *
+     * @param protectedOwnerRoles 이 Role의 사용자가 소유한 메모는 제외 (본인 소유, 소유자 없음, 탈퇴한 소유자는 허용)
+     */
+    private List<UUID> bulkSoftDelete(UUID memberId, UUID deletedBy, LocalDateTime deletedAt,
+                                      String requestUserId, String businessPlaceId, List<Role> protectedOwnerRoles) {
+        StringBuilder sql = new StringBuilder(
+                "UPDATE memos memo SET is_deleted = true, deleted_at = ?, deleted_by = ?, updated_at = ? " +
+                "WHERE memo.member_id = ? AND memo.is_deleted = false ");
+        Timestamp now = Timestamp.valueOf(deletedAt);
+        List<Object> params = new ArrayList<>(List.of(now, deletedBy, now, memberId));
+
+        if (!protectedOwnerRoles.isEmpty()) {
+            sql.append("AND (memo.owner_id IS NULL OR memo.owner_id = ? OR NOT EXISTS (" +
+                    "SELECT 1 FROM user_business_places ubp " +
+                    "WHERE ubp.user_id = memo.owner_id " +
+                    "AND ubp.business_place_id = ? " +
+                    "AND ubp.status = 'APPROVED' " +
+                    "AND ubp.role IN (");
+            params.add(UUID.fromString(requestUserId));
+            params.add(businessPlaceId);
+            for (int i = 0; i < protectedOwnerRoles.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                params.add(protectedOwnerRoles.get(i).name());
+            }
+            sql.append("))) ");
+        }
+        sql.append("RETURNING memo.id");
+
+        return jdbcTemplate.queryForList(sql.toString(), UUID.class, params.toArray());
+    }
+
+    private List<UUID> bulkRestore(UUID memberId) {
+        return jdbcTemplate.queryForList(
+                "UPDATE memos SET is_deleted = false, deleted_at = NULL, deleted_by = NULL, updated_at = ? " +
+                "WHERE member_id = ? AND is_deleted = true " +
+                "RETURNING id",
+                UUID.class, Timestamp.valueOf(LocalDateTime.now()), memberId);
+    }
+
+    /**
+     * 요청자 Role 기준으로 삭제할 수 없는 메모 소유자 Role (checkPermissionForDelete 규칙)
+     * - OWNER: 제한 없음
+     * - MANAGER: OWNER, 다른 MANAGER 소유 메모 제외
+     * - STAFF: 본인 소유 외 모두 제외
+     */
+    private static List<Role> protectedOwnerRoles(Role requesterRole) {
+        return switch (requesterRole) {
+            case OWNER -> List.of();
+            case MANAGER -> List.of(Role.OWNER, Role.MANAGER);
+            default -> List.of(Role.OWNER, Role.MANAGER, Role.STAFF);
+        };
+    }
+
+    private Member getMemberInBusinessPlace(String memberId, String businessPlaceId) {
+        if (businessPlaceId == null || businessPlaceId.isEmpty()) {
+            throw new IllegalArgumentException("businessPlaceId는 필수입니다 (보안)");
+        }
+        Member member = memberRepository.findById(UUID.fromString(memberId))
+                .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다."));
+        if (!businessPlaceId.equals(member.getBusinessPlaceId())) {
+            throw new AccessDeniedException("해당 회원에 대한 접근 권한이 없습니다.");
+        }
+        return member;
+    }
+
+    /**
+     * 일괄 처리 감사 로그 (커밋 후 한 건)
+     */
+    private void auditBulk(String requestUserId, String businessPlaceId, AuditAction action,
+                           Member member, List<UUID> memoIds, String description) {
+        Map<String, Object> afterData = Map.of(
+                "memberId", member.getId(),
+                "count", memoIds.size(),
+                "memoIds", memoIds);
+        String memberIdValue = member.getId().toString();
+        String memberName = member.getName();
+
+        TransactionUtils.afterCommit(() -> auditLogService.logAsync(
+                requestUserId, null, businessPlaceId, action,
+                "MEMO", memberIdValue, memberName, null, afterData, description));
+    }
+
+    /**
+     * 일괄 처리 결과
+     *
+     * @param affectedIds  처리된 메모 ID
+     * @param skippedCount 권한 부족으로 처리하지 않은 메모 수
+     */
+    public record BulkMemoResult(List<UUID> affectedIds, long skippedCount) {
+
+        public int affectedCount() {
+            return affectedIds.size();
+        }
+    }
+
     /**
      * MANAGER 이상 권한 체크
      */
     private void checkManagerOrAbove(String requestUserId, String businessPlaceId, String action) {
-        UserBusinessPlace requestUserRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(requestUserId), businessPlaceId, AccessStatus.APPROVED)
+        Role role = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
                 .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
-
-        Role role = requestUserRole.getRole();
         if (role != Role.OWNER && role != Role.MANAGER) {
             throw new AccessDeniedException(action + " 권한이 없습니다. MANAGER 이상만 가능합니다.");
         }
@@ -394,12 +583,10 @@ public class MemoService {
      */
     private void checkPermissionForEdit(UUID ownerId, String requestUserId, String businessPlaceId) {
         // 요청자의 role 조회
-        UserBusinessPlace requestUserRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(requestUserId), businessPlaceId, AccessStatus.APPROVED)
+        Role requesterRole = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
                 .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
 
-        Role requesterRole = requestUserRole.getRole();
-
         // 1. OWNER는 모두 수정 가능
         if (requesterRole == Role.OWNER) {
             return;
@@ -416,17 +603,15 @@ public class MemoService {
         }
 
         // 4. 소유자의 role 조회
-        UserBusinessPlace ownerRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(ownerId, businessPlaceId, AccessStatus.APPROVED)
+        Role ownerRoleType = businessPlacePermissionCache
+                .findApprovedRole(ownerId, businessPlaceId)
                 .orElse(null);
 
         // 소유자가 탈퇴한 경우 (null) → 허용
-        if (ownerRole == null) {
+        if (ownerRoleType == null) {
             return;
         }
 
-        Role ownerRoleType = ownerRole.getRole();
-
         // 5. 요청자가 MANAGER인 경우
         if (requesterRole == Role.MANAGER) {
             // OWNER 소유 데이터는 수정 불가
@@ -464,12 +649,10 @@ public class MemoService {
      */
     private void checkPermissionForDelete(UUID ownerId, String requestUserId, String businessPlaceId) {
         // 요청자의 role 조회
-        UserBusinessPlace requestUserRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(UUID.fromString(requestUserId), businessPlaceId, AccessStatus.APPROVED)
+        Role requesterRole = businessPlacePermissionCache
+                .findApprovedRole(UUID.fromString(requestUserId), businessPlaceId)
                 .orElseThrow(() -> new AccessDeniedException("해당 사업장에 대한 접근 권한이 없습니다."));
 
-        Role requesterRole = requestUserRole.getRole();
-
         // 1. OWNER는 모두 삭제 가능
         if (requesterRole == Role.OWNER) {
             return;
@@ -486,17 +669,15 @@ public class MemoService {
         }
 
         // 4. 소유자의 role 조회
-        UserBusinessPlace ownerRole = userBusinessPlaceRepository
-                .findByUserIdAndBusinessPlaceIdAndStatus(ownerId, businessPlaceId, AccessStatus.APPROVED)
+        Role ownerRoleType = businessPlacePermissionCache
+                .findApprovedRole(ownerId, businessPlaceId)
                 .orElse(null);
 
         // 소유자가 탈퇴한 경우 (null) → 허용
-        if (ownerRole == null) {
+        if (ownerRoleType == null) {
             return;
         }
 
-        Role ownerRoleType = ownerRole.getRole();
-
         // 5. 요청자가 MANAGER인 경우
         if (requesterRole == Role.MANAGER) {
             // OWNER 소유 데이터는 삭제 불가
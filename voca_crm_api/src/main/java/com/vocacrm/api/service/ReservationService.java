@@ -21,6 +21,7 @@ import java.util.UUID;
 public class ReservationService {
 
     private final ReservationRepository reservationRepository;
+    private final DailyBriefingService dailyBriefingService;
 
     // 예약 가능 최대 일수 (오늘로부터 90일 이내만 예약 가능)
     private static final int MAX_RESERVATION_DAYS_AHEAD = 90;
@@ -42,7 +43,9 @@ public class ReservationService {
         validateReservationDate(reservation.getReservationDate());
         validateNoDuplicateReservation(reservation);
 
-        return reservationRepository.save(reservation);
+        Reservation saved = reservationRepository.save(reservation);
+        dailyBriefingService.evict(saved.getBusinessPlaceId());
+        return saved;
     }
 
     /**
@@ -231,6 +234,7 @@ public class ReservationService {
         }
 
         Reservation saved = reservationRepository.save(existing);
+        dailyBriefingService.evict(saved.getBusinessPlaceId());
         return saved;
     }
 
@@ -244,7 +248,9 @@ public class ReservationService {
         if (updatedBy != null) {
             reservation.setUpdatedBy(updatedBy);
         }
-        return reservationRepository.save(reservation);
+        Reservation saved = reservationRepository.save(reservation);
+        dailyBriefingService.evict(saved.getBusinessPlaceId());
+        return saved;
     }
 
     // ===== 예약 삭제 정책 =====
@@ -0,0 +1,215 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.dto.AiAnalysisResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 기반 빠른 의도 분류기 (Fast-path)
+ *
+ * "1234번 회원 최근 메모", "김철수 체크인", "오늘 통계"처럼 형태가 고정된 자주 쓰는 명령을
+ * 정규식 규칙으로 직접 AiAnalysisResult로 변환하여 DeepL 번역과 Ollama 호출을 생략합니다.
+ *
+ * 문장 전체가 규칙과 일치하고 대상 회원(회원번호 또는 이름)을 확정할 수 있을 때만 결과를 반환하며,
+ * 규칙 신뢰도 × 대상 신뢰도가 voice.fast-path.min-confidence 미만이면 AI 분석으로 넘깁니다.
+ *
+ * 메트릭:
+ * - voice.fastpath.rule{rule, result=hit|low_confidence}: 규칙별 일치 횟수
+ * - voice.fastpath.miss: 어떤 규칙과도 일치하지 않은 횟수
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RuleBasedIntentClassifier implements IntentPreClassifier {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 대상 회원 (회원번호/이름) - 최소 일치로 뒤따르는 호칭/명령어를 남김
+     */
+    private static final String SUBJECT = "(?<subject>.{1,20}?)";
+
+    /**
+     * 대상 뒤의 호칭 및 조사 ("회원", "회원님", "고객님", "의")
+     */
+    private static final String HONORIFIC = "(?:\\s*(?:회원님|회원|고객님|고객|님))?(?:\\s*의)?";
+
+    /**
+     * 조회 요청 어미 (생략 가능)
+     */
+    private static final String REQUEST = "(?:\\s*좀)?(?:\\s*(?:보여\\s*줘|보여\\s*주세요|알려\\s*줘|알려\\s*주세요"
+            + "|조회(?:\\s*해\\s*줘)?|확인(?:\\s*해\\s*줘)?|뭐야|뭐였지))?";
+
+    private static final Pattern NUMBER_SUBJECT = Pattern.compile("^(?<number>\\d{1,10})\\s*번?(?:\\s*(?<name>[가-힣]{2,4}))?$");
+    private static final Pattern NAME_SUBJECT = Pattern.compile("^[가-힣]{2,4}$");
+
+    /**
+     * 이름으로 오인하면 안 되는 단어 (명령어/시간 표현)
+     */
+    static final Set<String> NON_NAME_WORDS = Set.of(
+            "오늘", "어제", "내일", "최근", "최신", "마지막", "이번", "지난", "전체", "전부", "모든", "모두",
+            "회원", "고객", "메모", "방문", "통계", "현황", "예약", "활동", "우리", "내가", "제가",
+            "신규", "기존", "휴면", "탈퇴", "단골"
+    );
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("memo-latest", "MEMO", "GET_LATEST", 0.95, true,
+                    Pattern.compile("^" + SUBJECT + HONORIFIC + "\\s*(?:최근|최신|마지막)\\s*메모" + REQUEST + "$")),
+            new Rule("memo-list", "MEMO", "GET_BY_MEMBER", 0.95, true,
+                    Pattern.compile("^" + SUBJECT + HONORIFIC + "\\s*(?:전체\\s*|모든\\s*)?메모(?:\\s*목록)?(?:\\s*(?:전부|전체|다))?" + REQUEST + "$")),
+            new Rule("visit-checkin", "VISIT", "CHECKIN", 0.95, true,
+                    Pattern.compile("^" + SUBJECT + HONORIFIC + "\\s*(?:체크인|방문\\s*체크|방문\\s*처리|출석\\s*체크)"
+                            + "(?:\\s*(?:해\\s*줘|해\\s*주세요|할게|처리))?$")),
+            new Rule("visit-history", "VISIT", "GET_BY_MEMBER", 0.95, true,
+                    Pattern.compile("^" + SUBJECT + HONORIFIC + "\\s*방문\\s*(?:기록|내역|이력)" + REQUEST + "$")),
+            new Rule("member-search", "MEMBER", "SEARCH", 0.9, true,
+                    Pattern.compile("^" + SUBJECT + HONORIFIC + "(?:(?:\\s*정보)?\\s*(?:찾아\\s*줘|검색(?:\\s*해\\s*줘)?)"
+                            + "|\\s*정보" + REQUEST + ")$")),
+            new Rule("statistics-home", "STATISTICS", "GET_HOME", 1.0, false,
+                    Pattern.compile("^(?:오늘\\s*)?(?:통계|현황|요약|예약\\s*몇\\s*건(?:이야)?)" + REQUEST + "$")),
+            new Rule("statistics-recent", "STATISTICS", "GET_RECENT_ACTIVITIES", 1.0, false,
+                    Pattern.compile("^최근\\s*활동(?:\\s*(?<limit>\\d{1,3})\\s*(?:개|건))?" + REQUEST + "$"))
+    );
+
+    @Value("${voice.fast-path.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voice.fast-path.min-confidence:0.8}")
+    private double minConfidence;
+
+    private final Map<String, Counter> hitCounters = new HashMap<>();
+    private final Map<String, Counter> lowConfidenceCounters = new HashMap<>();
+    private Counter missCounter;
+
+    @PostConstruct
+    public void init() {
+        for (Rule rule : RULES) {
+            hitCounters.put(rule.name(), ruleCounter(rule.name(), "hit"));
+            lowConfidenceCounters.put(rule.name(), ruleCounter(rule.name(), "low_confidence"));
+        }
+        missCounter = Counter.builder("voice.fastpath.miss")
+                .description("Fast-path 규칙과 일치하지 않아 AI 분석으로 넘긴 명령 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<AiAnalysisResult> classify(String text) {
+        if (!enabled || text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+
+        Optional<Match> match = match(text);
+        if (match.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        Match matched = match.get();
+        if (matched.confidence() < minConfidence) {
+            lowConfidenceCounters.get(matched.rule().name()).increment();
+            log.debug("Fast-path low confidence: '{}' (rule={}, confidence={})", text, matched.rule().name(), matched.confidence());
+            return Optional.empty();
+        }
+
+        hitCounters.get(matched.rule().name()).increment();
+        log.debug("Fast-path hit: '{}' (rule={}, confidence={})", text, matched.rule().name(), matched.confidence());
+        return Optional.of(matched.result());
+    }
+
+    /**
+     * 첫 번째로 일치하는 규칙 탐색 (신뢰도 판정 전)
+     */
+    private Optional<Match> match(String text) {
+        String normalized = TranslationCache.normalize(text);
+
+        for (Rule rule : RULES) {
+            Matcher matcher = rule.pattern().matcher(normalized);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            Map<String, Object> parameters = new HashMap<>();
+            double confidence = rule.confidence();
+
+            if (rule.requiresSubject()) {
+                Subject subject = resolveSubject(matcher.group("subject"));
+                if (subject == null) {
+                    continue;
+                }
+                parameters.put("searchCriteria", subject.criteria());
+                confidence *= subject.confidence();
+            }
+
+            if (rule.pattern().pattern().contains("(?<limit>") && matcher.group("limit") != null) {
+                parameters.put("limit", Integer.parseInt(matcher.group("limit")));
+            }
+
+            AiAnalysisResult result = new AiAnalysisResult();
+            result.setCategory(rule.category());
+            result.setAction(rule.action());
+            result.setParameters(parameters);
+            return Optional.of(new Match(rule, result, confidence));
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * 대상 문자열을 회원 검색 조건으로 변환
+     * - "1234번", "1234번 김철수" → memberNumber (+ name)
+     * - "김철수" → name (2글자 이름은 동음이인/오인식 가능성이 높아 신뢰도를 더 낮춤)
+     *
+     * @return 검색 조건, 회원을 특정할 수 없으면 null
+     */
+    private Subject resolveSubject(String rawSubject) {
+        String subject = rawSubject.trim();
+
+        Matcher numberMatcher = NUMBER_SUBJECT.matcher(subject);
+        if (numberMatcher.matches()) {
+            Map<String, Object> criteria = new HashMap<>();
+            criteria.put("memberNumber", numberMatcher.group("number"));
+            if (numberMatcher.group("name") != null) {
+                criteria.put("name", numberMatcher.group("name"));
+            }
+            return new Subject(criteria, 1.0);
+        }
+
+        if (NAME_SUBJECT.matcher(subject).matches() && !NON_NAME_WORDS.contains(subject)) {
+            Map<String, Object> criteria = new HashMap<>();
+            criteria.put("name", subject);
+            return new Subject(criteria, subject.length() == 2 ? 0.85 : 0.9);
+        }
+
+        return null;
+    }
+
+    private Counter ruleCounter(String ruleName, String result) {
+        return Counter.builder("voice.fastpath.rule")
+                .tag("rule", ruleName)
+                .tag("result", result)
+                .description("Fast-path 규칙별 일치 횟수")
+                .register(meterRegistry);
+    }
+
+    private record Rule(String name, String category, String action, double confidence,
+                        boolean requiresSubject, Pattern pattern) {
+    }
+
+    private record Subject(Map<String, Object> criteria, double confidence) {
+    }
+
+    private record Match(Rule rule, AiAnalysisResult result, double confidence) {
+    }
+}
@@ -3,7 +3,9 @@ package com.vocacrm.api.service;
 import com.vocacrm.api.dto.ChartDataDTO;
 import com.vocacrm.api.dto.HomeStatisticsDTO;
 import com.vocacrm.api.dto.RecentActivityDTO;
+import com.vocacrm.api.dto.RecentActivityPageDTO;
 import com.vocacrm.api.dto.TodayScheduleDTO;
+import com.vocacrm.api.exception.InvalidInputException;
 import com.vocacrm.api.model.BusinessPlace;
 import com.vocacrm.api.model.Reservation;
 import com.vocacrm.api.repository.BusinessPlaceRepository;
@@ -14,11 +16,16 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,6 +38,11 @@ public class StatisticsService {
     private final ReservationRepository reservationRepository;
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 최근 메모 활동 한 페이지 최대 크기
+     */
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 50;
+
     public HomeStatisticsDTO getHomeStatistics(String businessPlaceId) {
         BusinessPlace businessPlace = businessPlaceRepository.findById(businessPlaceId)
                 .orElseThrow(() -> new RuntimeException("Business place not found"));
@@ -69,6 +81,70 @@ public class StatisticsService {
                 businessPlaceId, limit);
     }
 
+    /**
+     * 최근 메모 활동 조회 (키셋 페이지네이션)
+     *
+     * 삭제되지 않은 회원의 삭제되지 않은 메모를 최신순으로 limit건만 DB에서 조회합니다.
+     * (created_at, id) 기준 키셋 커서를 사용하므로 페이지가 뒤로 가도 OFFSET 스캔이 없습니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public RecentActivityPageDTO getRecentMemoActivities(String businessPlaceId, Integer limit, String cursor) {
+        if (limit == null || limit <= 0) {
+            limit = 10;
+        }
+        int pageSize = Math.min(limit, MAX_ACTIVITY_PAGE_SIZE);
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT memo.id, m.id AS member_id, m.name AS member_name, memo.content, memo.created_at " +
+                "FROM memos memo " +
+                "JOIN members m ON memo.member_id = m.id " +
+                "WHERE m.business_place_id = ? " +
+                "AND m.is_deleted = false " +
+                "AND memo.is_deleted = false ");
+        List<Object> params = new ArrayList<>();
+        params.add(businessPlaceId);
+
+        if (cursor != null && !cursor.isEmpty()) {
+            ActivityCursor position = ActivityCursor.decode(cursor);
+            sql.append("AND (memo.created_at, memo.id) < (?, ?) ");
+            params.add(Timestamp.valueOf(position.createdAt()));
+            params.add(position.id());
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        sql.append("ORDER BY memo.created_at DESC, memo.id DESC LIMIT ?");
+        params.add(pageSize + 1);
+
+        List<RecentActivityDTO> activities = jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> RecentActivityDTO.builder()
+                        .activityId(rs.getString("id"))
+                        .activityType("MEMO")
+                        .memberId(rs.getString("member_id"))
+                        .memberName(rs.getString("member_name"))
+                        .content(rs.getString("content"))
+                        .activityTime(rs.getTimestamp("created_at").toLocalDateTime())
+                        .build(),
+                params.toArray());
+
+        boolean hasMore = activities.size() > pageSize;
+        if (hasMore) {
+            activities = activities.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            RecentActivityDTO last = activities.get(activities.size() - 1);
+            nextCursor = new ActivityCursor(last.getActivityTime(), UUID.fromString(last.getActivityId())).encode();
+        }
+
+        return RecentActivityPageDTO.builder()
+                .activities(new ArrayList<>(activities))
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     /**
      * 오늘의 예약 일정 조회
      * N+1 최적화: findByBusinessPlaceIdAndReservationDateWithMember()로 Member를 함께 로드
@@ -302,4 +378,26 @@ public class StatisticsService {
                 .dailyMemos(filledDataPoints)
                 .build();
     }
+
+    /**
+     * 최근 활동 키셋 커서 (마지막 항목의 생성 시각 + ID, URL-safe Base64)
+     */
+    private record ActivityCursor(LocalDateTime createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ActivityCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new ActivityCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("잘못된 커서입니다.");
+            }
+        }
+    }
 }
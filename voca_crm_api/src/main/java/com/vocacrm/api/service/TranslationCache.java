@@ -0,0 +1,163 @@
+package com.vocacrm.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+
+/**
+ * DeepL 번역 결과 2단계 캐시
+ *
+ * - L1: 프로세스 내 Caffeine 캐시 (LRU + TTL, 크기 제한)
+ * - L2: Redis 공유 캐시 (모든 API 노드가 결과 공유)
+ *
+ * 직원들이 반복적으로 말하는 동일한 문장("오늘 예약 몇 건이야" 등)의
+ * DeepL 호출을 생략하여 음성 명령 지연 시간과 월간 DeepL 문자 사용량을 줄입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static final String KEY_PREFIX = "deepl:translation:";
+
+    @Value("${deepl.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${deepl.cache.local.max-size:2000}")
+    private long localMaxSize;
+
+    @Value("${deepl.cache.local.ttl-minutes:60}")
+    private long localTtlMinutes;
+
+    @Value("${deepl.cache.redis.ttl-hours:168}")
+    private long redisTtlHours;
+
+    private Cache<String, String> localCache;
+    private Counter redisHitCounter;
+    private Counter redisMissCounter;
+    private Counter savedCharactersCounter;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .recordStats()
+                .build();
+
+        // cache.gets / cache.puts / cache.evictions 등 (cache=deepl.translation)
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "deepl.translation");
+
+        redisHitCounter = Counter.builder("deepl.translation.cache.redis")
+                .tag("result", "hit")
+                .description("Redis 번역 캐시 조회 결과")
+                .register(meterRegistry);
+        redisMissCounter = Counter.builder("deepl.translation.cache.redis")
+                .tag("result", "miss")
+                .description("Redis 번역 캐시 조회 결과")
+                .register(meterRegistry);
+        savedCharactersCounter = Counter.builder("deepl.translation.saved.characters")
+                .description("캐시 적중으로 절약한 DeepL 문자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 번역 결과 조회 (L1 → L2 순서)
+     *
+     * @param text 원본 텍스트 (한국어)
+     * @return 캐시된 영어 번역, 없으면 null
+     */
+    public String get(String text) {
+        if (!enabled || text == null) {
+            return null;
+        }
+
+        String key = normalize(text);
+
+        String cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            savedCharactersCounter.increment(text.length());
+            return cached;
+        }
+
+        try {
+            cached = redisTemplate.opsForValue().get(redisKey(key));
+        } catch (Exception e) {
+            log.warn("Translation cache Redis lookup failed: {}", e.getMessage());
+            return null;
+        }
+
+        if (cached == null) {
+            redisMissCounter.increment();
+            return null;
+        }
+
+        redisHitCounter.increment();
+        savedCharactersCounter.increment(text.length());
+        // L2 적중 결과를 L1에도 채워 다음 조회는 네트워크 없이 처리
+        localCache.put(key, cached);
+        return cached;
+    }
+
+    /**
+     * 번역 결과 저장 (L1 + L2)
+     * 번역 실패로 원문을 그대로 반환한 경우에는 호출하지 않아야 합니다.
+     */
+    public void put(String text, String translatedText) {
+        if (!enabled || text == null || translatedText == null) {
+            return;
+        }
+
+        String key = normalize(text);
+        localCache.put(key, translatedText);
+
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), translatedText, Duration.ofHours(redisTtlHours));
+        } catch (Exception e) {
+            log.warn("Translation cache Redis write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 키용 입력 정규화
+     * - 유니코드 NFC 정규화 (STT 엔진별 한글 조합 방식 차이 흡수)
+     * - 연속 공백 축소 및 앞뒤 공백 제거
+     * - 끝의 문장부호 제거 ("보여줘." / "보여줘?" 동일 처리)
+     */
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase();
+
+        int end = normalized.length();
+        while (end > 0 && isTrailingPunctuation(normalized.charAt(end - 1))) {
+            end--;
+        }
+        return normalized.substring(0, end);
+    }
+
+    private static boolean isTrailingPunctuation(char c) {
+        return c == '.' || c == '?' || c == '!' || c == '~' || c == ' ';
+    }
+
+    private String redisKey(String normalizedText) {
+        return KEY_PREFIX + DigestUtils.md5DigestAsHex(normalizedText.getBytes(StandardCharsets.UTF_8));
+    }
+}
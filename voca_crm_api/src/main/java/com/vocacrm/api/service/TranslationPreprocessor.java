@@ -0,0 +1,338 @@
+package com.vocacrm.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DeepL 번역 전처리
+ *
+ * - 회원번호/전화번호/이름(호칭이 붙은 이름, 문장 첫 단어)은 자리표시자(&lt;k&gt;0&lt;/k&gt;)로 보호하여 번역 후 원문 그대로 복원
+ *   (DeepL에는 tag_handling=xml, ignore_tags=k로 전송하므로 자리표시자 내용은 번역되지 않음)
+ * - CRM 용어(메모, 체크인, 예약 등)는 용어집(voice/translation-glossary.tsv)으로 로컬 치환 후 보호
+ * - 보호 구간을 제외한 나머지에 한글이 없거나 한글 비율이 기준 미만이면 DeepL 호출 없이 로컬 결과 사용
+ *
+ * DeepL 사용 글자 수와 지연을 줄이고, 이름/번호가 번역(로마자 표기 등)되지 않아 모델 입력이 안정됩니다.
+ *
+ * 메트릭:
+ * - deepl.preprocess{result=bypass|translate}: DeepL 생략/호출 건수
+ * - deepl.preprocess.bypassed.chars: DeepL 생략으로 절약한 글자 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationPreprocessor {
+
+    private final MeterRegistry meterRegistry;
+
+    private static final String GLOSSARY_LOCATION = "voice/translation-glossary.tsv";
+
+    /**
+     * DeepL ignore_tags로 지정하는 자리표시자 태그
+     */
+    public static final String PLACEHOLDER_TAG = "k";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("<" + PLACEHOLDER_TAG + ">(\\d+)</" + PLACEHOLDER_TAG + ">");
+
+    /**
+     * 이름 뒤에 오지 않는 관형형 어미 (방문한, 삭제된, 오는, 남은, 왔던, 예약할)
+     */
+    private static final String PREDICATE_ENDINGS = "한된는은던할될";
+
+    /**
+     * 흔한 성씨 ("-은"으로 끝나는 이름 구분용)
+     */
+    private static final String COMMON_SURNAMES = "김이박최정강조윤장임한오서신권황안송전홍유류고문양손배백허남";
+
+    @Value("${deepl.preprocess.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 보호 구간을 제외한 글자 중 한글 비율이 이 값 미만이면 번역 생략
+     */
+    @Value("${deepl.preprocess.min-hangul-ratio:0.15}")
+    private double minHangulRatio;
+
+    /**
+     * 용어집 (긴 용어 우선)
+     */
+    private final Map<String, String> glossary = new LinkedHashMap<>();
+
+    private Counter bypassCounter;
+    private Counter translateCounter;
+    private Counter bypassedCharsCounter;
+
+    @PostConstruct
+    public void init() {
+        loadGlossary();
+
+        bypassCounter = preprocessCounter("bypass");
+        translateCounter = preprocessCounter("translate");
+        bypassedCharsCounter = Counter.builder("deepl.preprocess.bypassed.chars")
+                .description("DeepL 번역 생략으로 절약한 글자 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 번역 전처리
+     *
+     * 메트릭은 실제 사용 경로에서 recordBypass/recordTranslate로 기록합니다 (캐시 확인과 번역 요청에서 두 번 호출될 수 있음).
+     *
+     * @return DeepL 전송 텍스트와 복원 정보, 번역이 필요 없으면 bypass
+     */
+    public Prepared prepare(String text) {
+        if (!enabled || text == null) {
+            return new Prepared(text, List.of(), false, text);
+        }
+
+        List<Span> spans = findSpans(text);
+
+        StringBuilder masked = new StringBuilder(text.length() + spans.size() * 8);
+        StringBuilder local = new StringBuilder(text.length());
+        List<String> replacements = new ArrayList<>(spans.size());
+        int hangul = 0;
+        int letters = 0;
+        int position = 0;
+
+        for (Span span : spans) {
+            String plain = text.substring(position, span.start());
+            masked.append(escapeXml(plain));
+            local.append(plain);
+
+            masked.append('<').append(PLACEHOLDER_TAG).append('>').append(replacements.size())
+                    .append("</").append(PLACEHOLDER_TAG).append('>');
+            local.append(span.replacement());
+            replacements.add(span.replacement());
+            position = span.end();
+        }
+        String tail = text.substring(position);
+        masked.append(escapeXml(tail));
+        local.append(tail);
+
+        // 보호 구간을 제외한 나머지 글자의 한글 비율
+        for (Span gap : gaps(text, spans)) {
+            for (int i = gap.start(); i < gap.end(); i++) {
+                char c = text.charAt(i);
+                if (Character.isLetter(c)) {
+                    letters++;
+                    if (isHangul(c)) {
+                        hangul++;
+                    }
+                }
+            }
+        }
+
+        boolean bypass = hangul == 0 || (double) hangul / letters < minHangulRatio;
+
+        return new Prepared(masked.toString(), List.copyOf(replacements), bypass, local.toString());
+    }
+
+    /**
+     * DeepL 호출 없이 로컬 결과를 사용한 경우 기록
+     */
+    public void recordBypass(String text, String local) {
+        bypassCounter.increment();
+        bypassedCharsCounter.increment(text.length());
+        log.debug("Translation bypassed: '{}' -> '{}'", text, local);
+    }
+
+    /**
+     * DeepL로 전송한 경우 기록
+     */
+    public void recordTranslate() {
+        translateCounter.increment();
+    }
+
+    /**
+     * 전처리 결과
+     *
+     * @param masked       DeepL 전송 텍스트 (자리표시자 포함, XML 이스케이프)
+     * @param replacements 자리표시자 번호별 복원 값
+     * @param bypass       DeepL 호출 불필요 여부
+     * @param local        로컬 번역 결과 (bypass인 경우 사용)
+     */
+    public record Prepared(String masked, List<String> replacements, boolean bypass, String local) {
+
+        /**
+         * DeepL 번역 결과의 자리표시자를 원래 값으로 복원
+         */
+        public String restore(String translated) {
+            if (translated == null) {
+                return null;
+            }
+            if (replacements.isEmpty()) {
+                return unescapeXml(translated);
+            }
+
+            Matcher matcher = PLACEHOLDER.matcher(translated);
+            StringBuilder restored = new StringBuilder(translated.length());
+            while (matcher.find()) {
+                int index = Integer.parseInt(matcher.group(1));
+                String value = index < replacements.size() ? replacements.get(index) : "";
+                matcher.appendReplacement(restored, Matcher.quoteReplacement(value));
+            }
+            matcher.appendTail(restored);
+            return unescapeXml(restored.toString());
+        }
+    }
+
+    /**
+     * 보호 구간 탐색 (전화번호 → 회원번호 → 이름 → 용어집 순, 겹치면 먼저 찾은 구간 우선)
+     */
+    private List<Span> findSpans(String text) {
+        List<Span> spans = new ArrayList<>();
+
+        Matcher phone = MemberPrefetcher.PHONE.matcher(text);
+        while (phone.find()) {
+            addSpan(spans, phone.start(), phone.end(), phone.group());
+        }
+
+        Matcher number = MemberPrefetcher.MEMBER_NUMBER.matcher(text);
+        while (number.find()) {
+            // "1234번" → "No. 1234"
+            addSpan(spans, number.start(1), text.indexOf('번', number.end(1)) + 1, "No. " + number.group(1));
+            if (number.group(2) != null && isName(number.group(2))) {
+                addSpan(spans, number.start(2), number.end(2), number.group(2));
+            }
+        }
+
+        boolean honorificFound = false;
+        Matcher name = MemberPrefetcher.HONORIFIC_NAME.matcher(text);
+        while (name.find()) {
+            if (isName(name.group(1))) {
+                honorificFound = true;
+                addSpan(spans, name.start(1), name.end(1), name.group(1));
+            }
+        }
+
+        // 호칭 없이 첫 단어가 이름인 경우 ("김철수 체크인")
+        Matcher leading = MemberPrefetcher.LEADING_NAME.matcher(text);
+        if (!honorificFound && leading.find() && isName(leading.group(1)) && !glossary.containsKey(leading.group(1))) {
+            addSpan(spans, leading.start(1), leading.end(1), leading.group(1));
+        }
+
+        for (Map.Entry<String, String> term : glossary.entrySet()) {
+            int from = 0;
+            int index;
+            while ((index = text.indexOf(term.getKey(), from)) >= 0) {
+                addSpan(spans, index, index + term.getKey().length(), term.getValue());
+                from = index + term.getKey().length();
+            }
+        }
+
+        spans.sort(Comparator.comparingInt(Span::start));
+        return spans;
+    }
+
+    /**
+     * 이름 후보 여부 (명령어/시간 표현, 관형형 "방문한 회원"/"삭제된 회원" 제외)
+     *
+     * "-은"으로 끝나는 3~4글자 단어는 흔한 성씨로 시작하면 이름으로 봅니다 (김지은, 박하은).
+     */
+    private static boolean isName(String word) {
+        if (RuleBasedIntentClassifier.NON_NAME_WORDS.contains(word)) {
+            return false;
+        }
+        char last = word.charAt(word.length() - 1);
+        if (PREDICATE_ENDINGS.indexOf(last) < 0) {
+            return true;
+        }
+        return last == '은' && word.length() >= 3 && COMMON_SURNAMES.indexOf(word.charAt(0)) >= 0;
+    }
+
+    private static void addSpan(List<Span> spans, int start, int end, String replacement) {
+        for (Span span : spans) {
+            if (start < span.end() && span.start() < end) {
+                return;
+            }
+        }
+        spans.add(new Span(start, end, replacement));
+    }
+
+    /**
+     * 보호 구간 사이의 나머지 구간
+     */
+    private static List<Span> gaps(String text, List<Span> spans) {
+        List<Span> gaps = new ArrayList<>(spans.size() + 1);
+        int position = 0;
+        for (Span span : spans) {
+            gaps.add(new Span(position, span.start(), null));
+            position = span.end();
+        }
+        gaps.add(new Span(position, text.length(), null));
+        return gaps;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= 0xAC00 && c <= 0xD7A3) || (c >= 0x3131 && c <= 0x318E);
+    }
+
+    private static String escapeXml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static String unescapeXml(String text) {
+        return text.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+    }
+
+    /**
+     * 용어집 로드 (긴 용어부터 치환되도록 정렬)
+     */
+    private void loadGlossary() {
+        ClassPathResource resource = new ClassPathResource(GLOSSARY_LOCATION);
+        if (!resource.exists()) {
+            return;
+        }
+
+        List<String[]> terms = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length >= 2 && !columns[0].isBlank()) {
+                    terms.add(new String[]{columns[0].trim(), columns[1].trim()});
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load translation glossary: {}", e.getMessage());
+            return;
+        }
+
+        terms.sort(Comparator.comparingInt((String[] term) -> term[0].length()).reversed());
+        terms.forEach(term -> glossary.put(term[0], term[1]));
+        log.info("Translation glossary loaded: {} terms", glossary.size());
+    }
+
+    private Counter preprocessCounter(String result) {
+        return Counter.builder("deepl.preprocess")
+                .tag("result", result)
+                .description("DeepL 번역 전처리 결과 (생략/호출)")
+                .register(meterRegistry);
+    }
+
+    private record Span(int start, int end, String replacement) {
+    }
+}
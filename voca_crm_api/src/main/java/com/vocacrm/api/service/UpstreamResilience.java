@@ -0,0 +1,208 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.config.ResilienceConfig;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API(Ollama, DeepL) 호출 보호
+ *
+ * - 서킷 브레이커: 실패율이 임계치를 넘으면 일정 시간 호출 없이 즉시 실패 (CallNotPermittedException)
+ * - 벌크헤드: 업스트림별 동시 호출 수 제한, 초과 시 대기 없이 즉시 거부 (BulkheadFullException)
+ * - 헤지 요청(선택): 첫 요청이 최근 p95 응답 시간 내에 끝나지 않으면 한 번 더 요청하고 먼저 온 응답 사용
+ *
+ * 메트릭:
+ * - resilience4j.circuitbreaker.* / resilience4j.bulkhead.* (상태, 호출 수)
+ * - upstream.rejected{upstream, reason=circuit_open|bulkhead_full}: 즉시 거부된 호출 수
+ * - upstream.hedged{upstream}: 헤지 요청 발송 수
+ * - upstream.latency{upstream}: 업스트림 응답 시간 (p95 → 헤지 지연)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamResilience {
+
+    public static final String OLLAMA = "ollama";
+    public static final String DEEPL = "deepl";
+
+    private final ResilienceConfig resilienceConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final Map<String, Guard> guards = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        register(OLLAMA, resilienceConfig.getOllama());
+        register(DEEPL, resilienceConfig.getDeepl());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 보호된 업스트림 호출
+     *
+     * @param upstream 업스트림 이름 (OLLAMA, DEEPL)
+     * @param attempt  구독할 때마다 새 요청을 보내는 호출 (헤지 시 두 번 구독될 수 있음)
+     */
+    public <T> Mono<T> call(String upstream, Supplier<Mono<T>> attempt) {
+        Guard guard = guards.get(upstream);
+        if (guard == null) {
+            throw new IllegalArgumentException("Unknown upstream: " + upstream);
+        }
+
+        return Mono.defer(() -> {
+            Mono<T> primary = guarded(guard, attempt);
+
+            // 서킷이 닫혀 있을 때만 헤지 (장애 중에는 중복 요청으로 부하를 늘리지 않음)
+            if (!guard.settings().isHedging() || guard.circuitBreaker().getState() != CircuitBreaker.State.CLOSED) {
+                return primary;
+            }
+
+            Mono<T> hedge = Mono.delay(hedgeDelay(guard))
+                    .then(Mono.defer(() -> {
+                        guard.hedgedCounter().increment();
+                        log.debug("Hedging {} request", upstream);
+                        return guarded(guard, attempt);
+                    }));
+
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorMap(NoSuchElementException.class, UpstreamResilience::firstFailure);
+        });
+    }
+
+    /**
+     * 서킷 오픈/벌크헤드 초과로 호출 없이 거부되었는지 확인 (재시도 불필요)
+     */
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    private <T> Mono<T> guarded(Guard guard, Supplier<Mono<T>> attempt) {
+        return Mono.defer(attempt)
+                .elapsed()
+                .doOnNext(timed -> guard.latency().record(timed.getT1(), TimeUnit.MILLISECONDS))
+                .map(Tuple2::getT2)
+                // 벌크헤드 안쪽, 서킷 브레이커 바깥쪽 (벌크헤드 거부는 실패율에 포함하지 않음)
+                .transformDeferred(BulkheadOperator.of(guard.bulkhead()))
+                .transformDeferred(CircuitBreakerOperator.of(guard.circuitBreaker()))
+                .doOnError(CallNotPermittedException.class, e -> guard.circuitOpenCounter().increment())
+                .doOnError(BulkheadFullException.class, e -> guard.bulkheadFullCounter().increment());
+    }
+
+    /**
+     * 헤지 지연 계산
+     * 표본이 충분하면 최근 p95 응답 시간, 부족하면 설정값 사용
+     */
+    private Duration hedgeDelay(Guard guard) {
+        ResilienceConfig.Upstream settings = guard.settings();
+
+        if (guard.latency().count() >= settings.getHedgeMinSamples()) {
+            for (ValueAtPercentile percentile : guard.latency().takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == 0.95) {
+                    long p95 = (long) percentile.value(TimeUnit.MILLISECONDS);
+                    return Duration.ofMillis(Math.max(p95, settings.getHedgeMinDelayMs()));
+                }
+            }
+        }
+
+        return Duration.ofMillis(settings.getHedgeDelayMs());
+    }
+
+    /**
+     * 헤지 요청까지 모두 실패한 경우 첫 번째 요청의 오류를 그대로 전달
+     */
+    private static Throwable firstFailure(NoSuchElementException e) {
+        if (e.getCause() == null) {
+            return e;
+        }
+        List<Throwable> failures = Exceptions.unwrapMultiple(e.getCause());
+        return failures.isEmpty() ? e : failures.get(0);
+    }
+
+    private void register(String upstream, ResilienceConfig.Upstream settings) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofSeconds(settings.getOpenStateSeconds()))
+                .permittedNumberOfCallsInHalfOpenState(settings.getHalfOpenCalls())
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(upstream, circuitBreakerConfig);
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("{} circuit breaker: {}", upstream, event.getStateTransition()));
+
+        Guard guard = new Guard(
+                settings,
+                circuitBreaker,
+                bulkheadRegistry.bulkhead(upstream, bulkheadConfig),
+                Timer.builder("upstream.latency")
+                        .tag("upstream", upstream)
+                        .publishPercentiles(0.95)
+                        .description("외부 API 응답 시간")
+                        .register(meterRegistry),
+                rejectedCounter(upstream, "circuit_open"),
+                rejectedCounter(upstream, "bulkhead_full"),
+                Counter.builder("upstream.hedged")
+                        .tag("upstream", upstream)
+                        .description("헤지 요청 발송 수")
+                        .register(meterRegistry));
+
+        guards.put(upstream, guard);
+    }
+
+    private Counter rejectedCounter(String upstream, String reason) {
+        return Counter.builder("upstream.rejected")
+                .tag("upstream", upstream)
+                .tag("reason", reason)
+                .description("서킷 오픈/동시 호출 초과로 즉시 거부된 호출 수")
+                .register(meterRegistry);
+    }
+
+    private record Guard(ResilienceConfig.Upstream settings,
+                         CircuitBreaker circuitBreaker,
+                         Bulkhead bulkhead,
+                         Timer latency,
+                         Counter circuitOpenCounter,
+                         Counter bulkheadFullCounter,
+                         Counter hedgedCounter) {
+    }
+}
@@ -26,6 +26,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserBusinessPlaceRepository userBusinessPlaceRepository;
+    private final BusinessPlacePermissionCache businessPlacePermissionCache;
     private final BusinessPlaceAccessRequestRepository accessRequestRepository;
     private final BusinessPlaceService businessPlaceService;
     private final RefreshTokenService refreshTokenService;
@@ -65,6 +66,7 @@ public class UserService {
         // 2. UserBusinessPlace 레코드 삭제 (모든 상태)
         List<UserBusinessPlace> allUserBusinessPlaces = userBusinessPlaceRepository.findByUserId(userUuid);
         userBusinessPlaceRepository.deleteAll(allUserBusinessPlaces);
+        businessPlacePermissionCache.evict(userUuid);
         log.info("Deleted {} UserBusinessPlace records", allUserBusinessPlaces.size());
 
         // 3. 사용자가 보낸 접근 요청 삭제
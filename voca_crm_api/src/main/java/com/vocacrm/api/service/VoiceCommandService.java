@@ -1,15 +1,21 @@
 package com.vocacrm.api.service;
 
 import com.vocacrm.api.dto.*;
+import com.vocacrm.api.enums.VoicePipelineStage;
+import com.vocacrm.api.exception.AccessDeniedException;
 import com.vocacrm.api.model.Member;
 import com.vocacrm.api.model.Memo;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -24,74 +30,180 @@ public class VoiceCommandService {
     private final AiServerClient aiServerClient;
     private final MemberService memberService;
     private final MemoService memoService;
-    private final ReservationService reservationService;
     private final com.vocacrm.api.repository.UserRepository userRepository;
+    private final Scheduler voiceScheduler;
+    private final List<IntentPreClassifier> intentPreClassifiers;
+    private final ConversationStore conversationStore;
+    private final DailyBriefingService dailyBriefingService;
+    private final StatisticsService statisticsService;
+    private final VoicePipelineMetrics voicePipelineMetrics;
+    private final MemberPrefetcher memberPrefetcher;
 
     /**
      * 새 음성 명령 처리 (AI 분석 필요)
      * /api/voice/command 엔드포인트에서 호출
+     *
+     * 사용자 기본 사업장 조회와 AI 분석을 병렬로 실행하고,
+     * 카테고리별 DB 처리는 음성 파이프라인 전용 스케줄러에서 실행합니다.
+     * 규칙으로 분류 가능한 명령은 번역/AI 분석 없이 바로 처리합니다.
+     * AI 분석이 필요한 명령은 원문에서 추출한 회원 후보를 분석과 병렬로 미리 조회합니다.
      */
-    public VoiceCommandResponse processNewCommand(VoiceCommandRequest request) {
-        try {
-            // 사용자 ID로 User 조회하여 defaultBusinessPlaceId 가져오기
-            String businessPlaceId = null;
-            if (request.getUserId() != null) {
-                businessPlaceId = userRepository.findById(UUID.fromString(request.getUserId()))
-                        .map(com.vocacrm.api.model.User::getDefaultBusinessPlaceId)
-                        .orElse(null);
-            }
+    public Mono<VoiceCommandResponse> processNewCommand(VoiceCommandRequest request) {
+        return processNewCommand(request, stage -> { });
+    }
 
-            return processNewCommandInternal(request, businessPlaceId);
+    /**
+     * 새 음성 명령 처리 (진행 단계 알림 포함)
+     * /api/voice/command/stream SSE 엔드포인트에서 호출
+     *
+     * @param stageListener 번역/분석/실행 단계 시작 시 호출되는 리스너
+     */
+    public Mono<VoiceCommandResponse> processNewCommand(VoiceCommandRequest request,
+                                                        Consumer<VoicePipelineStage> stageListener) {
+        Mono<Optional<String>> businessPlaceId = voicePipelineMetrics.time(VoicePipelineMetrics.STAGE_DB,
+                        Mono.fromCallable(() -> Optional.ofNullable(findDefaultBusinessPlaceId(request.getUserId()))))
+                .subscribeOn(voiceScheduler)
+                // 회원 선조회와 결과 조립에서 함께 사용 (조회는 한 번만)
+                .cache();
+
+        Optional<AiAnalysisResult> preClassified = preClassify(request.getText());
+        String path = preClassified.isPresent() ? VoicePipelineMetrics.PATH_RULE : VoicePipelineMetrics.PATH_AI;
+        Mono<AiAnalysisResult> analysis = preClassified
+                .map(Mono::just)
+                .orElseGet(() -> aiServerClient.analyzeCommand(request.getText(), stageListener));
+
+        // Fast-path는 AI 분석 대기가 없으므로 선조회하지 않음
+        Mono<PrefetchedMembers> prefetch = preClassified.isPresent()
+                ? Mono.just(PrefetchedMembers.empty())
+                : businessPlaceId.flatMap(placeId -> memberPrefetcher.prefetch(request.getText(), placeId.orElse(null)));
+
+        Timer.Sample sample = voicePipelineMetrics.start();
+
+        return Mono.zip(businessPlaceId, analysis, prefetch)
+                .publishOn(voiceScheduler)
+                .map(tuple -> {
+                    stageListener.accept(VoicePipelineStage.EXECUTING);
+                    return storeConversation(processNewCommandInternal(request, tuple.getT2(), tuple.getT1().orElse(null), tuple.getT3()));
+                })
+                .onErrorResume(e -> {
+                    log.error("Error processing voice command: {}", e.getMessage(), e);
+                    return Mono.just(createErrorResponse("명령 처리 중 오류가 발생했습니다: " + e.getMessage(), "PROCESSING_ERROR"));
+                })
+                .doFinally(signal -> voicePipelineMetrics.recordCommand(sample, path));
+    }
 
-        } catch (Exception e) {
-            log.error("Error processing voice command: {}", e.getMessage(), e);
-            return createErrorResponse("명령 처리 중 오류가 발생했습니다: " + e.getMessage(), "PROCESSING_ERROR");
+    /**
+     * 규칙 기반 사전 분류 (Fast-path)
+     *
+     * @return 분류 결과, 모든 분류기가 확신하지 못하면 빈 값 (AI 분석 필요)
+     */
+    private Optional<AiAnalysisResult> preClassify(String text) {
+        for (IntentPreClassifier classifier : intentPreClassifiers) {
+            Optional<AiAnalysisResult> result = classifier.classify(text);
+            if (result.isPresent()) {
+                return result;
+            }
         }
+        return Optional.empty();
     }
 
     /**
      * 대화 이어가기 처리 (AI 분석 없음)
      * /api/voice/continue 엔드포인트에서 호출
+     *
+     * 클라이언트가 보낸 conversationId로 서버에 저장된 컨텍스트를 조회합니다.
+     * 클라이언트가 보낸 컨텍스트 내용(사업장, 원래 의도, 후보 목록 등)은 사용하지 않습니다.
      */
-    public VoiceCommandResponse processContinuedConversation(VoiceCommandRequest request) {
-        try {
-            // 사용자 ID로 User 조회하여 defaultBusinessPlaceId 가져오기
-            String businessPlaceId = null;
-            if (request.getUserId() != null) {
-                businessPlaceId = userRepository.findById(UUID.fromString(request.getUserId()))
-                        .map(com.vocacrm.api.model.User::getDefaultBusinessPlaceId)
-                        .orElse(null);
-            }
+    public Mono<VoiceCommandResponse> processContinuedConversation(VoiceCommandRequest request) {
+        return Mono.fromCallable(() -> {
+                    String conversationId = request.resolveConversationId();
+                    ConversationContextDTO context = conversationStore.find(conversationId);
+
+                    // 만료되었거나 다른 사용자의 대화
+                    if (context == null || context.getCurrentStep() == null
+                            || !Objects.equals(context.getRequestUserId(), request.getUserId())) {
+                        return createErrorResponse("대화가 만료되었습니다. 명령을 다시 말씀해주세요.", "CONVERSATION_EXPIRED");
+                    }
+
+                    // 컨텍스트 생성 시점에 사업장이 없었던 경우에만 조회
+                    if (context.getBusinessPlaceId() == null) {
+                        context.setBusinessPlaceId(findDefaultBusinessPlaceId(request.getUserId()));
+                    }
+
+                    VoiceCommandResponse response = processContinuedConversationInternal(request, context);
+
+                    // 같은 단계를 다시 묻는 경우가 아니면 현재 대화는 종료
+                    if (response.getContext() == null || !conversationId.equals(response.getContext().getConversationId())) {
+                        conversationStore.remove(conversationId);
+                    }
+                    return storeConversation(response);
+                })
+                .subscribeOn(voiceScheduler)
+                .onErrorResume(e -> {
+                    log.error("Error continuing conversation: {}", e.getMessage(), e);
+                    return Mono.just(createErrorResponse("대화 처리 중 오류가 발생했습니다: " + e.getMessage(), "PROCESSING_ERROR"));
+                });
+    }
+
+    /**
+     * 응답에 다음 단계 컨텍스트가 있으면 서버에 저장하고,
+     * 클라이언트에는 conversationId와 현재 단계만 전달
+     */
+    private VoiceCommandResponse storeConversation(VoiceCommandResponse response) {
+        ConversationContextDTO context = response.getContext();
+        if (context == null || context.getConversationId() == null) {
+            return response;
+        }
 
-            return processContinuedConversationInternal(request, businessPlaceId);
+        conversationStore.save(context);
 
-        } catch (Exception e) {
-            log.error("Error continuing conversation: {}", e.getMessage(), e);
-            return createErrorResponse("대화 처리 중 오류가 발생했습니다: " + e.getMessage(), "PROCESSING_ERROR");
+        response.setContext(ConversationContextDTO.builder()
+                .conversationId(context.getConversationId())
+                .currentStep(context.getCurrentStep())
+                .build());
+        return response;
+    }
+
+    /**
+     * 사용자 ID로 User 조회하여 defaultBusinessPlaceId 가져오기
+     */
+    private String findDefaultBusinessPlaceId(String userId) {
+        if (userId == null) {
+            return null;
         }
+        return userRepository.findById(UUID.fromString(userId))
+                .map(com.vocacrm.api.model.User::getDefaultBusinessPlaceId)
+                .orElse(null);
     }
 
     /**
      * 새로운 명령 처리 (내부)
      */
-    private VoiceCommandResponse processNewCommandInternal(VoiceCommandRequest request, String businessPlaceId) {
-        // AI 서버에 명령 분석 요청
-        AiAnalysisResult aiResult = aiServerClient.analyzeCommand(request.getText());
-
-        // 에러 응답 처리
-        if (aiResult.isError()) {
-            return handleErrorResponse(aiResult);
-        }
+    private VoiceCommandResponse processNewCommandInternal(VoiceCommandRequest request, AiAnalysisResult aiResult,
+                                                           String businessPlaceId, PrefetchedMembers prefetchedMembers) {
+        // AI 에러 응답이나 처리 중 예외로 끝나도 미사용 선조회는 기록
+        try {
+            // 에러 응답 처리
+            if (aiResult.isError()) {
+                return handleErrorResponse(aiResult);
+            }
 
-        // 컨텍스트 생성 (requestUserId 포함)
-        ConversationContextDTO context = ConversationContextDTO.builder()
-                .conversationId(UUID.randomUUID().toString())
-                .businessPlaceId(businessPlaceId)
-                .requestUserId(request.getUserId())
-                .build();
+            // 컨텍스트 생성 (requestUserId 포함)
+            ConversationContextDTO context = ConversationContextDTO.builder()
+                    .conversationId(UUID.randomUUID().toString())
+                    .businessPlaceId(businessPlaceId)
+                    .requestUserId(request.getUserId())
+                    .prefetchedMembers(prefetchedMembers)
+                    .build();
 
-        // 카테고리에 따라 처리
-        return routeByCategory(aiResult, context);
+            // 카테고리에 따라 처리 (카테고리/액션별 처리 시간 기록)
+            Timer.Sample sample = voicePipelineMetrics.start();
+            VoiceCommandResponse response = routeByCategory(aiResult, context);
+            voicePipelineMetrics.recordRoute(sample, aiResult.getCategory(), aiResult.getAction(), response.getErrorCode());
+            return response;
+        } finally {
+            memberPrefetcher.recordUnused(prefetchedMembers);
+        }
     }
 
     /**
@@ -151,7 +263,11 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemberSearch(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
+        if (members.isEmpty() && specificMemberId == null) {
+            // 조회만 하므로 일치하는 이름이 없으면 유사 이름 회원으로 대체
+            members = findSimilarMembers(aiResult.getSearchCriteria(), context);
+        }
 
         if (members.isEmpty()) {
             return createCompletedResponse("조건에 맞는 회원을 찾을 수 없습니다.", Map.of());
@@ -199,10 +315,10 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemberUpdate(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
 
         if (members.isEmpty()) {
-            return createCompletedResponse("수정할 회원을 찾을 수 없습니다.", Map.of());
+            return suggestSimilarMembers(aiResult, context, "수정할 회원을 찾을 수 없습니다.");
         }
 
         if (members.size() > 1 && specificMemberId == null) {
@@ -247,7 +363,11 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemberDelete(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
+        if (members.isEmpty() && specificMemberId == null) {
+            // 유사 이름 회원은 아래 삭제 확인 단계에서 회원 이름을 보고 확인
+            members = findSimilarMembers(aiResult.getSearchCriteria(), context);
+        }
 
         if (members.isEmpty()) {
             return createCompletedResponse("삭제할 회원을 찾을 수 없습니다.", Map.of());
@@ -324,7 +444,11 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemoGetByMember(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
+        if (members.isEmpty() && specificMemberId == null) {
+            // 조회만 하므로 일치하는 이름이 없으면 유사 이름 회원으로 대체
+            members = findSimilarMembers(aiResult.getSearchCriteria(), context);
+        }
 
         if (members.isEmpty()) {
             return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
@@ -348,7 +472,11 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemoGetLatest(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
+        if (members.isEmpty() && specificMemberId == null) {
+            // 조회만 하므로 일치하는 이름이 없으면 유사 이름 회원으로 대체
+            members = findSimilarMembers(aiResult.getSearchCriteria(), context);
+        }
 
         if (members.isEmpty()) {
             return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
@@ -371,10 +499,10 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemoCreate(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
 
         if (members.isEmpty()) {
-            return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
+            return suggestSimilarMembers(aiResult, context, "회원을 찾을 수 없습니다.");
         }
 
         if (members.size() > 1 && specificMemberId == null) {
@@ -397,10 +525,10 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemoUpdateLatest(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
 
         if (members.isEmpty()) {
-            return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
+            return suggestSimilarMembers(aiResult, context, "회원을 찾을 수 없습니다.");
         }
 
         if (members.size() > 1 && specificMemberId == null) {
@@ -440,10 +568,10 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemoDeleteLatest(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
 
         if (members.isEmpty()) {
-            return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
+            return suggestSimilarMembers(aiResult, context, "회원을 찾을 수 없습니다.");
         }
 
         if (members.size() > 1 && specificMemberId == null) {
@@ -476,10 +604,10 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleMemoDeleteAll(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
 
         if (members.isEmpty()) {
-            return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
+            return suggestSimilarMembers(aiResult, context, "회원을 찾을 수 없습니다.");
         }
 
         if (members.size() > 1 && specificMemberId == null) {
@@ -487,32 +615,25 @@ public class VoiceCommandService {
         }
 
         Member member = members.get(0);
-        List<Memo> memos = memoService.getMemosByMemberId(member.getId().toString(), member.getBusinessPlaceId());
 
-        if (memos.isEmpty()) {
-            return createCompletedResponse(member.getName() + " 회원의 메모가 없습니다.", Map.of("member", member));
+        // 권한 확인 1회 + 단일 UPDATE (권한 없는 메모는 제외되어 failedCount로 집계)
+        MemoService.BulkMemoResult result;
+        try {
+            result = memoService.softDeleteAllByMember(
+                    member.getId().toString(),
+                    context.getRequestUserId(),
+                    context.getBusinessPlaceId());
+        } catch (AccessDeniedException e) {
+            // 권한 외 오류(DB 오류 등)는 명령 처리 오류로 전달
+            log.warn("Permission denied for bulk memo delete (member: {}): {}", member.getId(), e.getMessage());
+            return createErrorResponse("메모 삭제 권한이 없습니다.", "PERMISSION_DENIED");
         }
 
-        int deletedCount = 0;
-        int failedCount = 0;
-        List<String> failedMessages = new ArrayList<>();
+        int deletedCount = result.affectedCount();
+        int failedCount = (int) result.skippedCount();
 
-        for (Memo memo : memos) {
-            try {
-                // 권한 체크 후 Soft Delete
-                memoService.softDeleteMemo(
-                        memo.getId().toString(),
-                        context.getRequestUserId(),
-                        context.getBusinessPlaceId()
-                );
-                deletedCount++;
-            } catch (RuntimeException e) {
-                log.warn("Permission denied for memo delete (id: {}): {}", memo.getId(), e.getMessage());
-                failedCount++;
-                if (failedMessages.size() < 3) {
-                    failedMessages.add(e.getMessage());
-                }
-            }
+        if (deletedCount == 0 && failedCount == 0) {
+            return createCompletedResponse(member.getName() + " 회원의 메모가 없습니다.", Map.of("member", member));
         }
 
         if (deletedCount == 0 && failedCount > 0) {
@@ -545,10 +666,10 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleVisitCheckin(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
 
         if (members.isEmpty()) {
-            return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
+            return suggestSimilarMembers(aiResult, context, "회원을 찾을 수 없습니다.");
         }
 
         if (members.size() > 1 && specificMemberId == null) {
@@ -577,7 +698,11 @@ public class VoiceCommandService {
 
     private VoiceCommandResponse handleVisitGetByMember(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String specificMemberId = getSelectedMemberId(context);
-        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context.getBusinessPlaceId());
+        List<Member> members = findMembersBySearchCriteria(aiResult.getSearchCriteria(), specificMemberId, context);
+        if (members.isEmpty() && specificMemberId == null) {
+            // 조회만 하므로 일치하는 이름이 없으면 유사 이름 회원으로 대체
+            members = findSimilarMembers(aiResult.getSearchCriteria(), context);
+        }
 
         if (members.isEmpty()) {
             return createCompletedResponse("회원을 찾을 수 없습니다.", Map.of());
@@ -619,6 +744,9 @@ public class VoiceCommandService {
         };
     }
 
+    /**
+     * 홈 통계 (StatisticsService 집계 재사용, 회원 수와 무관하게 고정 쿼리 수)
+     */
     private VoiceCommandResponse handleStatisticsGetHome(ConversationContextDTO context) {
         String businessPlaceId = context.getBusinessPlaceId();
 
@@ -627,18 +755,25 @@ public class VoiceCommandService {
         }
 
         try {
-            Long todayReservations = reservationService.getTodayReservationCount(businessPlaceId);
-            List<Member> members = memberService.getMembersByBusinessPlace(businessPlaceId);
+            HomeStatisticsDTO statistics = statisticsService.getHomeStatistics(businessPlaceId);
 
             return createCompletedResponse(
-                    String.format("오늘 예약은 %d건이고, 등록된 회원은 %d명입니다.", todayReservations, members.size()),
-                    Map.of("todayReservations", todayReservations, "totalMembers", members.size()));
+                    String.format("오늘 예약은 %d건이고, 등록된 회원은 %d명입니다.",
+                            statistics.getTodayReservations(), statistics.getTotalMembers()),
+                    Map.of("todayReservations", statistics.getTodayReservations(),
+                            "todayVisits", statistics.getTodayVisits(),
+                            "pendingMemos", statistics.getPendingMemos(),
+                            "totalMembers", statistics.getTotalMembers()));
         } catch (Exception e) {
             log.error("Error getting home statistics: {}", e.getMessage(), e);
             return createErrorResponse("통계 조회 중 오류가 발생했습니다.", "STATISTICS_ERROR");
         }
     }
 
+    /**
+     * 최근 활동 (최근 메모 limit건만 DB에서 조회)
+     * 다음 페이지는 응답의 nextCursor로 /api/statistics/recent-memos 조회
+     */
     private VoiceCommandResponse handleStatisticsGetRecentActivities(AiAnalysisResult aiResult, ConversationContextDTO context) {
         String businessPlaceId = context.getBusinessPlaceId();
 
@@ -649,37 +784,30 @@ public class VoiceCommandService {
         Integer limit = aiResult.getLimit();
         if (limit == null) limit = 10;
 
-        // 최근 활동 조회 (최근 메모 기반)
         try {
-            List<Member> members = memberService.getMembersByBusinessPlace(businessPlaceId);
-            List<Map<String, Object>> recentActivities = new ArrayList<>();
+            RecentActivityPageDTO page = statisticsService.getRecentMemoActivities(businessPlaceId, limit, null);
 
-            for (Member member : members) {
-                List<Memo> memos = memoService.getMemosByMemberId(member.getId().toString(), member.getBusinessPlaceId());
-                for (Memo memo : memos) {
-                    Map<String, Object> activity = new HashMap<>();
-                    activity.put("memberId", member.getId());
-                    activity.put("memberName", member.getName());
-                    activity.put("content", memo.getContent());
-                    activity.put("createdAt", memo.getCreatedAt());
-                    recentActivities.add(activity);
-                }
+            List<Map<String, Object>> recentActivities = new ArrayList<>();
+            for (RecentActivityDTO activity : page.getActivities()) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("memoId", activity.getActivityId());
+                item.put("memberId", activity.getMemberId());
+                item.put("memberName", activity.getMemberName());
+                item.put("content", activity.getContent());
+                item.put("createdAt", activity.getActivityTime());
+                recentActivities.add(item);
             }
 
-            // 최신순 정렬 후 제한
-            recentActivities.sort((a, b) -> {
-                LocalDateTime timeA = (LocalDateTime) a.get("createdAt");
-                LocalDateTime timeB = (LocalDateTime) b.get("createdAt");
-                return timeB.compareTo(timeA);
-            });
-
-            if (recentActivities.size() > limit) {
-                recentActivities = recentActivities.subList(0, limit);
+            Map<String, Object> data = new HashMap<>();
+            data.put("activities", recentActivities);
+            data.put("hasMore", page.isHasMore());
+            if (page.getNextCursor() != null) {
+                data.put("nextCursor", page.getNextCursor());
             }
 
             return createCompletedResponse(
                     String.format("최근 활동 %d건입니다.", recentActivities.size()),
-                    Map.of("activities", recentActivities));
+                    data);
         } catch (Exception e) {
             log.error("Error getting recent activities: {}", e.getMessage(), e);
             return createErrorResponse("최근 활동 조회 중 오류가 발생했습니다.", "STATISTICS_ERROR");
@@ -688,14 +816,9 @@ public class VoiceCommandService {
 
     // ===== 대화 이어서 처리 =====
 
-    private VoiceCommandResponse processContinuedConversationInternal(VoiceCommandRequest request, String businessPlaceId) {
-        ConversationContextDTO context = request.getContext();
+    private VoiceCommandResponse processContinuedConversationInternal(VoiceCommandRequest request, ConversationContextDTO context) {
         ConversationStep currentStep = context.getCurrentStep();
 
-        if (context.getBusinessPlaceId() == null && businessPlaceId != null) {
-            context.setBusinessPlaceId(businessPlaceId);
-        }
-
         return switch (currentStep.getStepType()) {
             case "member_selection" -> handleMemberSelection(request, context);
             case "memo_selection" -> handleMemoSelection(request, context);
@@ -797,7 +920,8 @@ public class VoiceCommandService {
 
     // ===== Helper Methods =====
 
-    private List<Member> findMembersBySearchCriteria(Map<String, Object> searchCriteria, String specificMemberId, String businessPlaceId) {
+    private List<Member> findMembersBySearchCriteria(Map<String, Object> searchCriteria, String specificMemberId,
+                                                     ConversationContextDTO context) {
         // 이미 선택된 회원이 있는 경우
         if (specificMemberId != null && !specificMemberId.isEmpty()) {
             try {
@@ -817,20 +941,52 @@ public class VoiceCommandService {
         String phone = (String) searchCriteria.get("phone");
         String email = (String) searchCriteria.get("email");
 
-        // 회원번호로 검색
-        if (memberNumber != null && !memberNumber.isEmpty()) {
-            List<Member> members = memberService.getMembersByNumber(memberNumber, businessPlaceId);
-            // 이름도 있으면 추가 필터링
-            if (name != null && !name.isEmpty()) {
-                members = members.stream()
-                        .filter(m -> m.getName().contains(name))
-                        .collect(Collectors.toList());
-            }
-            return members;
+        // AI 분석과 병렬로 같은 조건을 미리 조회했으면 그 결과 사용
+        return memberPrefetcher.find(context.getPrefetchedMembers(), memberNumber, name, phone, email,
+                context.getBusinessPlaceId());
+    }
+
+    /**
+     * 유사 이름 회원 조회 (음성 인식 오류 보정: "김철쑤" → 김철수)
+     * 회원번호 검색이나 이름이 없는 조건은 보정하지 않음
+     */
+    private List<Member> findSimilarMembers(Map<String, Object> searchCriteria, ConversationContextDTO context) {
+        if (searchCriteria == null || context.getBusinessPlaceId() == null) {
+            return Collections.emptyList();
         }
 
-        // 이름, 전화번호, 이메일로 검색
-        return memberService.searchMembers(null, name, phone, email, businessPlaceId);
+        String memberNumber = (String) searchCriteria.get("memberNumber");
+        String name = (String) searchCriteria.get("name");
+        if ((memberNumber != null && !memberNumber.isEmpty()) || name == null || name.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return memberService.searchMembersBySimilarName(name, context.getBusinessPlaceId());
+    }
+
+    /**
+     * 변경 작업 대상 회원이 없을 때 유사 이름 회원 제안
+     * 근사 결과로 바로 실행하지 않고, 한 명이면 확인 단계, 여러 명이면 선택 단계로 전환
+     */
+    private VoiceCommandResponse suggestSimilarMembers(AiAnalysisResult aiResult, ConversationContextDTO context,
+                                                       String notFoundMessage) {
+        if (getSelectedMemberId(context) != null) {
+            return createCompletedResponse(notFoundMessage, Map.of());
+        }
+
+        List<Member> similar = findSimilarMembers(aiResult.getSearchCriteria(), context);
+        if (similar.isEmpty()) {
+            return createCompletedResponse(notFoundMessage, Map.of());
+        }
+
+        String searchKeyword = buildSearchKeyword(aiResult.getSearchCriteria());
+        if (similar.size() > 1) {
+            return createMemberSelectionResponse(similar, aiResult, context,
+                    String.format("%s 회원을 찾을 수 없습니다. 비슷한 이름의 회원이 %d명 있습니다. 어떤 회원을 선택하시겠습니까?",
+                            searchKeyword, similar.size()));
+        }
+
+        return createSimilarMemberConfirmationResponse(similar.get(0), aiResult, context, searchKeyword);
     }
 
     private String getSelectedMemberId(ConversationContextDTO context) {
@@ -869,6 +1025,13 @@ public class VoiceCommandService {
     }
 
     private VoiceCommandResponse createMemberSelectionResponse(List<Member> members, AiAnalysisResult aiResult, ConversationContextDTO existingContext) {
+        String searchKeyword = buildSearchKeyword(aiResult.getSearchCriteria());
+        return createMemberSelectionResponse(members, aiResult, existingContext,
+                String.format("%s 회원이 %d명 있습니다. 어떤 회원을 선택하시겠습니까?", searchKeyword, members.size()));
+    }
+
+    private VoiceCommandResponse createMemberSelectionResponse(List<Member> members, AiAnalysisResult aiResult,
+                                                               ConversationContextDTO existingContext, String message) {
         String conversationId = UUID.randomUUID().toString();
 
         List<Map<String, Object>> candidates = members.stream()
@@ -914,7 +1077,7 @@ public class VoiceCommandService {
         return VoiceCommandResponse.builder()
                 .status("clarification_needed")
                 .conversationId(conversationId)
-                .message(String.format("%s 회원이 %d명 있습니다. 어떤 회원을 선택하시겠습니까?", searchKeyword, members.size()))
+                .message(message)
                 .data(Map.of("candidates", candidates, "searchKeyword", searchKeyword))
                 .selectionOptions(VoiceCommandResponse.SelectionOptions.builder()
                         .allowMultipleSelection(false)
@@ -996,6 +1159,59 @@ public class VoiceCommandService {
                 .build();
     }
 
+    /**
+     * 유사 이름 회원 확인 응답 (확인 후 원래 명령을 선택된 회원으로 실행)
+     */
+    private VoiceCommandResponse createSimilarMemberConfirmationResponse(Member member, AiAnalysisResult aiResult,
+                                                                         ConversationContextDTO existingContext,
+                                                                         String searchKeyword) {
+        String conversationId = UUID.randomUUID().toString();
+
+        Map<String, Object> originalIntent = new HashMap<>();
+        originalIntent.put("category", aiResult.getCategory());
+        originalIntent.put("action", aiResult.getAction());
+        originalIntent.put("parameters", aiResult.getParameters());
+
+        ConversationStep step = ConversationStep.builder()
+                .stepType("confirmation")
+                .stepNumber(1)
+                .targetEntityType("confirmation")
+                .allowMultipleSelection(false)
+                .allowSelectAll(false)
+                .build();
+
+        SelectedEntity memberEntity = SelectedEntity.builder()
+                .entityType("member")
+                .ids(Collections.singletonList(member.getId().toString()))
+                .selectAll(false)
+                .build();
+
+        ConversationContextDTO context = ConversationContextDTO.builder()
+                .conversationId(conversationId)
+                .businessPlaceId(existingContext != null ? existingContext.getBusinessPlaceId() : null)
+                .requestUserId(existingContext != null ? existingContext.getRequestUserId() : null)
+                .originalIntent(originalIntent)
+                .selectedEntities(new ArrayList<>(Collections.singletonList(memberEntity)))
+                .currentStep(step)
+                .build();
+
+        String confirmMessage = String.format("%s 회원을 찾을 수 없습니다. %s(%s번) 회원이 맞습니까? (예/아니오)",
+                searchKeyword, member.getName(), member.getMemberNumber());
+
+        return VoiceCommandResponse.builder()
+                .status("clarification_needed")
+                .conversationId(conversationId)
+                .message(confirmMessage)
+                .data(Map.of("member", member, "searchKeyword", searchKeyword))
+                .selectionOptions(VoiceCommandResponse.SelectionOptions.builder()
+                        .allowMultipleSelection(false)
+                        .allowSelectAll(false)
+                        .targetEntityType("confirmation")
+                        .build())
+                .context(context)
+                .build();
+    }
+
     private VoiceCommandResponse createCompletedResponse(String message, Map<String, Object> data) {
         return VoiceCommandResponse.builder()
                 .status("completed")
@@ -1014,6 +1230,7 @@ public class VoiceCommandService {
 
     /**
      * 일일 브리핑 생성
+     * 집계는 DailyBriefingService (사업장별 캐시)에서 조회하고 문구만 구성
      */
     public VoiceCommandResponse generateDailyBriefing(String userId, String businessPlaceId) {
         try {
@@ -1022,59 +1239,36 @@ public class VoiceCommandService {
 
             briefing.append("안녕하세요! 오늘의 브리핑을 시작하겠습니다.\n\n");
 
-            Long todayReservations = 0L;
-            if (businessPlaceId != null) {
-                todayReservations = reservationService.getTodayReservationCount(businessPlaceId);
-            }
+            // 사업장이 없으면 집계 대상 없음 (다른 사업장 데이터를 조회하지 않음)
+            DailyBriefingService.DailyBriefing summary = businessPlaceId != null
+                    ? dailyBriefingService.getBriefing(businessPlaceId)
+                    : null;
+
+            long todayReservations = summary != null ? summary.todayReservations() : 0L;
             briefing.append(String.format("오늘 예약은 총 %d건입니다.\n", todayReservations));
             data.put("todayReservations", todayReservations);
 
-            List<Memo> importantMemos = new ArrayList<>();
-            if (businessPlaceId != null) {
-                List<Member> members = memberService.getMembersByBusinessPlace(businessPlaceId);
-                for (Member member : members) {
-                    List<Memo> memberMemos = memoService.getMemosByMemberId(member.getId().toString(), member.getBusinessPlaceId());
-                    importantMemos.addAll(memberMemos.stream()
-                            .filter(Memo::getIsImportant)
-                            .collect(Collectors.toList()));
-                }
-            } else {
-                List<Member> allMembers = memberService.getAllMembers(0, 1000);
-                for (Member member : allMembers) {
-                    List<Memo> memberMemos = memoService.getMemosByMemberId(member.getId().toString(), member.getBusinessPlaceId());
-                    importantMemos.addAll(memberMemos.stream()
-                            .filter(Memo::getIsImportant)
-                            .collect(Collectors.toList()));
-                }
-            }
-
-            int importantMemoCount = importantMemos.size();
+            long importantMemoCount = summary != null ? summary.importantMemoCount() : 0L;
             briefing.append(String.format("확인이 필요한 중요 메모는 %d개입니다.\n", importantMemoCount));
             data.put("importantMemoCount", importantMemoCount);
 
             if (importantMemoCount > 0) {
                 briefing.append("\n주요 메모 내용:\n");
-                List<Memo> topMemos = importantMemos.stream()
-                        .sorted(Comparator.comparing(Memo::getCreatedAt).reversed())
-                        .limit(3)
-                        .collect(Collectors.toList());
 
                 List<Map<String, Object>> memoPreview = new ArrayList<>();
+                List<BriefingMemoDTO> topMemos = summary.topImportantMemos();
                 for (int i = 0; i < topMemos.size(); i++) {
-                    Memo memo = topMemos.get(i);
-                    Member member = memberService.getMemberById(memo.getMemberId().toString());
+                    BriefingMemoDTO memo = topMemos.get(i);
+                    String memberName = memo.getMemberName() != null ? memo.getMemberName() : "알 수 없음";
                     String previewText = memo.getContent().length() > 30
                             ? memo.getContent().substring(0, 30) + "..."
                             : memo.getContent();
-                    briefing.append(String.format("%d. %s님: %s\n",
-                            i + 1,
-                            member != null ? member.getName() : "알 수 없음",
-                            previewText));
+                    briefing.append(String.format("%d. %s님: %s\n", i + 1, memberName, previewText));
 
                     Map<String, Object> memoInfo = new HashMap<>();
-                    memoInfo.put("memoId", memo.getId());
+                    memoInfo.put("memoId", memo.getMemoId());
                     memoInfo.put("memberId", memo.getMemberId());
-                    memoInfo.put("memberName", member != null ? member.getName() : "알 수 없음");
+                    memoInfo.put("memberName", memberName);
                     memoInfo.put("content", memo.getContent());
                     memoInfo.put("createdAt", memo.getCreatedAt());
                     memoPreview.add(memoInfo);
@@ -0,0 +1,164 @@
+package com.vocacrm.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 음성 명령 파이프라인 단계별 메트릭
+ *
+ * 느린 음성 명령이 번역/LLM/파싱/DB 처리 중 어디에서 지연되었는지 구분하고 SLO를 정하기 위한 지표입니다.
+ * 모든 Timer는 백분위 히스토그램 버킷을 함께 내보내므로 Prometheus에서 histogram_quantile로 집계할 수 있습니다.
+ *
+ * - voice.pipeline.stage{stage=translate|llm|parse|db}: 단계별 소요 시간
+ *   (llm은 시도 1회 기준이며 스트리밍 모드에서는 파싱 시간을 포함, db는 AI 분석과 병렬로 실행되는 기본 사업장 조회)
+ * - voice.pipeline.route{category, action}: 카테고리/액션별 명령 처리 시간 (DB 작업이 대부분, 커넥션 사용 시간은 hikaricp.connections.usage)
+ * - voice.command.latency{path=rule|ai}: 음성 명령 전체 처리 시간 (규칙 기반 Fast-path / AI 분석)
+ * - voice.llm.retries: Ollama 재시도 횟수
+ * - voice.llm.parse.failures{reason=no_json|incomplete}: AI 응답 파싱 실패 수
+ * - voice.command.unsupported{category, action}: UNSUPPORTED_CATEGORY/UNSUPPORTED_ACTION 응답 수
+ */
+@Component
+@RequiredArgsConstructor
+public class VoicePipelineMetrics {
+
+    public static final String STAGE_TRANSLATE = "translate";
+    public static final String STAGE_LLM = "llm";
+    public static final String STAGE_PARSE = "parse";
+    public static final String STAGE_DB = "db";
+
+    public static final String PATH_RULE = "rule";
+    public static final String PATH_AI = "ai";
+
+    public static final String PARSE_NO_JSON = "no_json";
+    public static final String PARSE_INCOMPLETE = "incomplete";
+
+    /**
+     * 태그 값으로 허용하는 카테고리 (AI 응답 값을 그대로 태그에 쓰면 시계열 수가 제한 없이 늘어남)
+     */
+    private static final Set<String> CATEGORIES = Set.of("MEMBER", "MEMO", "VISIT", "STATISTICS", "ERROR");
+
+    private static final Pattern ACTION_PATTERN = Pattern.compile("[A-Z_]{1,32}");
+
+    private static final String OTHER = "OTHER";
+    private static final String NONE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 단계 소요 시간 기록 (구독 시점부터 완료/오류/취소 시점까지)
+     */
+    public <T> Mono<T> time(String stage, Mono<T> source) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return source.doFinally(signal -> sample.stop(stageTimer(stage)));
+        });
+    }
+
+    /**
+     * 동기 단계 소요 시간 기록
+     */
+    public <T> T time(String stage, Supplier<T> work) {
+        return stageTimer(stage).record(work);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 카테고리/액션별 처리 시간 기록
+     *
+     * @param errorCode 처리 결과 에러 코드 (UNSUPPORTED_*이면 미지원 카운터 증가)
+     */
+    public void recordRoute(Timer.Sample sample, String category, String action, String errorCode) {
+        String categoryTag = categoryTag(category);
+        String actionTag = actionTag(action);
+
+        if ("UNSUPPORTED_CATEGORY".equals(errorCode)) {
+            categoryTag = OTHER;
+            actionTag = OTHER;
+        } else if ("UNSUPPORTED_ACTION".equals(errorCode)) {
+            actionTag = OTHER;
+        }
+
+        sample.stop(Timer.builder("voice.pipeline.route")
+                .tag("category", categoryTag)
+                .tag("action", actionTag)
+                .description("카테고리/액션별 음성 명령 처리 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry));
+
+        if (errorCode != null && errorCode.startsWith("UNSUPPORTED_")) {
+            Counter.builder("voice.command.unsupported")
+                    .tag("category", categoryTag)
+                    .tag("action", actionTag)
+                    .description("지원하지 않는 카테고리/액션 응답 수")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    public void recordCommand(Timer.Sample sample, String path) {
+        sample.stop(Timer.builder("voice.command.latency")
+                .tag("path", path)
+                .description("음성 명령 전체 처리 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(meterRegistry));
+    }
+
+    public void retry() {
+        Counter.builder("voice.llm.retries")
+                .description("Ollama 재시도 횟수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void parseFailure(String reason) {
+        Counter.builder("voice.llm.parse.failures")
+                .tag("reason", reason)
+                .description("AI 응답 파싱 실패 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("voice.pipeline.stage")
+                .tag("stage", stage)
+                .description("음성 명령 파이프라인 단계별 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(meterRegistry);
+    }
+
+    private static String categoryTag(String category) {
+        if (category == null) {
+            return NONE;
+        }
+        String upper = category.toUpperCase(Locale.ROOT);
+        return CATEGORIES.contains(upper) ? upper : OTHER;
+    }
+
+    private static String actionTag(String action) {
+        if (action == null) {
+            return NONE;
+        }
+        String upper = action.toUpperCase(Locale.ROOT);
+        return ACTION_PATTERN.matcher(upper).matches() ? upper : OTHER;
+    }
+}
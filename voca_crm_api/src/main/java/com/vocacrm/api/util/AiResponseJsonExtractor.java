@@ -0,0 +1,76 @@
+package com.vocacrm.api.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vocacrm.api.dto.AiAnalysisResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * LLM 응답 텍스트에서 AiAnalysisResult JSON 추출
+ *
+ * 응답 문자 배열을 한 번 훑으면서 '{' 위치마다 Jackson 파서를 열어 AiAnalysisResult로 바로 바인딩합니다.
+ * 부분 문자열 생성, 정규식, 유효성 검사용 중복 파싱 없이 category를 포함한 첫 번째 객체를 반환합니다.
+ *
+ * - 앞뒤 설명 텍스트, 코드블록 마커(```json)는 '{' 탐색 과정에서 자연히 건너뜀
+ * - 파싱된 객체에 category가 없으면 다음 '{'부터 계속 탐색 (감싼 객체 안의 {"response":{"category":...}}도 찾음)
+ * - 잘린/깨진 객체는 다음 '{'부터 다시 시도 (내부의 완성된 객체를 찾을 수 있음)
+ * - 문자열 내 줄바꿈 등 이스케이프되지 않은 제어 문자 허용
+ */
+@Slf4j
+@Component
+public class AiResponseJsonExtractor {
+
+    private final ObjectReader resultReader;
+
+    public AiResponseJsonExtractor(ObjectMapper objectMapper) {
+        this.resultReader = objectMapper.readerFor(AiAnalysisResult.class)
+                .with(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS);
+    }
+
+    /**
+     * category를 포함한 첫 번째 JSON 객체를 AiAnalysisResult로 바인딩
+     *
+     * @param response LLM 응답 원문
+     * @return 추출 결과, 유효한 객체가 없으면 null
+     */
+    public AiAnalysisResult extract(String response) {
+        if (response == null || response.isEmpty()) {
+            return null;
+        }
+
+        char[] content = response.toCharArray();
+        int position = indexOfBrace(content, 0);
+
+        while (position >= 0) {
+            try (JsonParser parser = resultReader.createParser(content, position, content.length - position)) {
+                AiAnalysisResult result = resultReader.readValue(parser);
+                if (result != null && result.getCategory() != null) {
+                    return result;
+                }
+            } catch (JsonProcessingException e) {
+                log.trace("No JSON object at offset {}: {}", position, e.getOriginalMessage());
+            } catch (IOException e) {
+                log.debug("Failed to read AI response at offset {}: {}", position, e.getMessage());
+            }
+
+            position = indexOfBrace(content, position + 1);
+        }
+
+        return null;
+    }
+
+    private static int indexOfBrace(char[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
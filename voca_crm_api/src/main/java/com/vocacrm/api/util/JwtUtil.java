@@ -1,6 +1,9 @@
 package com.vocacrm.api.util;
 
+import com.vocacrm.api.dto.AuthPrincipal;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -33,6 +36,12 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-validity}")
     private Long refreshTokenValidity;
 
+    /**
+     * 서명 키와 파서 (검증 후 한 번만 생성, 스레드 안전)
+     */
+    private SecretKey signingKey;
+    private JwtParser parser;
+
     /**
      * 애플리케이션 시작 시 JWT Secret 길이 검증
      * HMAC-SHA256은 최소 256비트(32바이트) 키가 필요합니다.
@@ -52,10 +61,15 @@ public class JwtUtil {
         }
 
         log.info("JWT Secret 검증 완료: {}바이트 (최소 요구사항 충족)", secretLength);
+
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
     public String generateAccessToken(
@@ -64,7 +78,8 @@ public class JwtUtil {
             String phone,
             String email,
             String defaultBusinessPlaceId,
-            boolean isSystemAdmin
+            boolean isSystemAdmin,
+            String tier
     ) {
         return generateToken(
                 userId,
@@ -73,6 +88,7 @@ public class JwtUtil {
                 email,
                 defaultBusinessPlaceId,
                 isSystemAdmin,
+                tier,
                 accessTokenValidity
         );
     }
@@ -97,6 +113,7 @@ public class JwtUtil {
             String email,
             String defaultBusinessPlaceId,
             boolean isSystemAdmin,
+            String tier,
             Long validity
     ) {
         Date now = new Date();
@@ -109,12 +126,39 @@ public class JwtUtil {
                 .claim("phone", phone)
                 .claim("defaultBusinessPlaceId", defaultBusinessPlaceId)
                 .claim("isSystemAdmin", isSystemAdmin)
+                .claim("tier", tier)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(getSigningKey())
                 .compact();
     }
 
+    /**
+     * 서명/만료를 한 번에 검증하고 사용자 정보 반환
+     *
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws JwtException 서명 불일치, 형식 오류, 만료 시각 없음
+     */
+    public AuthPrincipal parseVerified(String token) {
+        Claims claims = extractAllClaims(token);
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            throw new JwtException("Token has no expiration");
+        }
+
+        return new AuthPrincipal(
+                claims.getSubject(),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                claims.get("phone", String.class),
+                claims.get("defaultBusinessPlaceId", String.class),
+                Boolean.TRUE.equals(claims.get("isSystemAdmin", Boolean.class)),
+                claims.get("tier", String.class),
+                expiration.toInstant()
+        );
+    }
+
     public String extractUserId(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -145,11 +189,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     private Boolean isTokenExpired(String token) {
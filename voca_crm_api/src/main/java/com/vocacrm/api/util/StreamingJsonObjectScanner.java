@@ -0,0 +1,99 @@
+package com.vocacrm.api.util;
+
+/**
+ * 스트리밍 JSON 객체 스캐너
+ *
+ * LLM 토큰 스트림을 조각 단위로 받아 최상위 JSON 객체가 완성되는 시점을 감지합니다.
+ * 문자열 리터럴과 이스케이프를 고려하여 중괄호 깊이를 추적하므로,
+ * 문자열 내부의 "{", "}"는 깊이 계산에 포함되지 않습니다.
+ * JSON 앞뒤의 설명 텍스트나 코드블록 마커는 무시합니다.
+ *
+ * 스레드 안전하지 않습니다. 요청(스트림)마다 새 인스턴스를 사용하세요.
+ */
+public class StreamingJsonObjectScanner {
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * 다음에 검사할 위치
+     */
+    private int scanPosition = 0;
+
+    /**
+     * 현재 객체 시작 위치 (-1: 객체 밖)
+     */
+    private int objectStart = -1;
+
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escaped = false;
+
+    /**
+     * 토큰 조각 추가 후 완성된 최상위 JSON 객체 반환
+     *
+     * @param chunk 새로 수신한 토큰 조각
+     * @return 이번 조각으로 완성된 첫 번째 JSON 객체 문자열, 없으면 null
+     */
+    public String append(String chunk) {
+        if (chunk != null && !chunk.isEmpty()) {
+            buffer.append(chunk);
+        }
+        return scan();
+    }
+
+    /**
+     * 지금까지 수신한 전체 텍스트 (완성된 객체를 찾지 못한 경우의 폴백용)
+     */
+    public String getBufferedText() {
+        return buffer.toString();
+    }
+
+    /**
+     * 버퍼를 이어서 검사하여 완성된 객체를 찾으면 반환
+     * 한 번의 append로 여러 객체가 완성될 수 있으므로 남은 부분은 다음 호출에서 이어서 검사합니다.
+     */
+    public String scan() {
+        int length = buffer.length();
+
+        while (scanPosition < length) {
+            char c = buffer.charAt(scanPosition++);
+
+            if (objectStart < 0) {
+                // 객체 밖: 첫 '{'가 나올 때까지 건너뜀
+                if (c == '{') {
+                    objectStart = scanPosition - 1;
+                    depth = 1;
+                    inString = false;
+                    escaped = false;
+                }
+                continue;
+            }
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+                if (depth == 0) {
+                    String object = buffer.substring(objectStart, scanPosition);
+                    objectStart = -1;
+                    return object;
+                }
+            }
+        }
+
+        return null;
+    }
+}
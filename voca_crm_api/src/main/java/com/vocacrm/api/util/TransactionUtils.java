@@ -0,0 +1,33 @@
+package com.vocacrm.api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ *
+ * 메모리 인덱스/캐시 갱신처럼 DB 변경이 확정된 뒤에만 실행해야 하는 작업에 사용합니다.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        // 유틸리티 클래스 - 인스턴스화 방지
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (롤백 시 실행하지 않음)
+     * 트랜잭션 밖에서 호출하면 즉시 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
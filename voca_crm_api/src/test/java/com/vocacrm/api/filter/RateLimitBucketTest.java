@@ -0,0 +1,201 @@
+package com.vocacrm.api.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void clampsLimitToCounterRange() {
+        assertThat(new RateLimitBucket(100_000, 60, 0).getLimit()).isEqualTo(RateLimitBucket.MAX_LIMIT);
+
+        RateLimitBucket disabled = new RateLimitBucket(-1, 60, 0);
+        assertThat(disabled.getLimit()).isEqualTo(0);
+        assertThat(disabled.tryConsume(0)).isEqualTo(-1);
+    }
+
+    @Test
+    void admitsExactlyLimitWithinWindow() {
+        RateLimitBucket bucket = new RateLimitBucket(3, 60, 0);
+
+        assertThat(bucket.tryConsume(0)).isEqualTo(2);
+        assertThat(bucket.tryConsume(SECOND)).isEqualTo(1);
+        assertThat(bucket.tryConsume(2 * SECOND)).isEqualTo(0);
+        assertThat(bucket.tryConsume(3 * SECOND)).isEqualTo(-1);
+    }
+
+    @Test
+    void admitsMaxLimitWithoutCounterOverflow() {
+        RateLimitBucket bucket = new RateLimitBucket(RateLimitBucket.MAX_LIMIT, 60, 0);
+
+        assertThat(consumeAll(bucket, 0)).isEqualTo(RateLimitBucket.MAX_LIMIT);
+        assertThat(bucket.tryConsume(0)).isEqualTo(-1);
+
+        // 다음 윈도우 시작: 직전 윈도우(가득 참)가 전부 반영되어 거부
+        assertThat(bucket.tryConsume(60 * SECOND)).isEqualTo(-1);
+
+        // 다음 윈도우 절반: 직전 윈도우의 절반만 반영
+        assertThat(consumeAll(bucket, 90 * SECOND)).isEqualTo(RateLimitBucket.MAX_LIMIT / 2);
+    }
+
+    @Test
+    void weightsPreviousWindowOnRollOver() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 10, 0);
+        assertThat(consumeAll(bucket, 0)).isEqualTo(10);
+
+        // 윈도우 1 시작: 직전 10건 전부 반영
+        assertThat(bucket.tryConsume(10 * SECOND)).isEqualTo(-1);
+
+        // 윈도우 1 중간: 직전 10건 × 0.5 = 5 → 5건 허용
+        assertThat(consumeAll(bucket, 15 * SECOND)).isEqualTo(5);
+
+        // 윈도우 2 중간: 직전 5건 × 0.5 = 2.5 → 7건 허용
+        assertThat(consumeAll(bucket, 25 * SECOND)).isEqualTo(7);
+
+        // 2개 윈도우 이상 지나면 초기화
+        assertThat(bucket.isStale(45 * SECOND)).isTrue();
+        assertThat(consumeAll(bucket, 45 * SECOND)).isEqualTo(10);
+    }
+
+    @Test
+    void doesNotRewindWindowForLateCaller() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 10, 0);
+        assertThat(consumeAll(bucket, 5 * SECOND)).isEqualTo(10);
+
+        // 윈도우 1 중간: 직전 10건 × 0.5 = 5 → 5건 허용
+        assertThat(consumeAll(bucket, 15 * SECOND)).isEqualTo(5);
+
+        // 윈도우 0 시각으로 늦게 도착한 요청: 윈도우 1 시작 기준으로 평가되어 거부 (직전 윈도우 수 유지)
+        assertThat(bucket.tryConsume(9 * SECOND)).isEqualTo(-1);
+        assertThat(bucket.tryConsume(15 * SECOND)).isEqualTo(-1);
+    }
+
+    @Test
+    void handlesPeriodLongerThanCounterRange() {
+        // 윈도우(초)가 16비트 범위를 넘어도 가중치 계산이 넘치지 않음
+        int periodSeconds = 200_000;
+        RateLimitBucket bucket = new RateLimitBucket(RateLimitBucket.MAX_LIMIT, periodSeconds, 0);
+
+        assertThat(consumeAll(bucket, 0)).isEqualTo(RateLimitBucket.MAX_LIMIT);
+        assertThat(bucket.tryConsume(periodSeconds * SECOND)).isEqualTo(-1);
+        assertThat(consumeAll(bucket, periodSeconds * SECOND * 3 / 2)).isEqualTo(RateLimitBucket.MAX_LIMIT / 2);
+        assertThat(bucket.getSecondsUntilReset(periodSeconds * SECOND * 3 / 2)).isEqualTo(periodSeconds / 2L);
+    }
+
+    @Test
+    void handlesMaximumPeriod() {
+        RateLimitBucket bucket = new RateLimitBucket(10, Integer.MAX_VALUE, 0);
+
+        long halfPeriod = Integer.MAX_VALUE * SECOND / 2;
+
+        assertThat(consumeAll(bucket, 0)).isEqualTo(10);
+        assertThat(bucket.tryConsume(halfPeriod)).isEqualTo(-1);
+        assertThat(bucket.isStale(halfPeriod)).isFalse();
+    }
+
+    @Test
+    void reportsSecondsUntilReset() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 60, 0);
+
+        assertThat(bucket.getSecondsUntilReset(0)).isEqualTo(60L);
+        assertThat(bucket.getSecondsUntilReset(59 * SECOND + 1)).isEqualTo(1L);
+        assertThat(bucket.getSecondsUntilReset(60 * SECOND)).isEqualTo(60L);
+    }
+
+    @Test
+    void doesNotOverAdmitUnderContention() throws Exception {
+        int limit = 1_000;
+        int threads = 16;
+        int attemptsPerThread = 500;
+        long now = System.nanoTime();
+        RateLimitBucket bucket = new RateLimitBucket(limit, 60, now);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (bucket.tryConsume(now) >= 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(limit);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doesNotOverAdmitAcrossWindowBoundaryUnderContention() throws Exception {
+        int limit = 1_000;
+        int threads = 16;
+        int attemptsPerThread = 500;
+        long period = 60 * SECOND;
+        RateLimitBucket bucket = new RateLimitBucket(limit, 60, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        // 경계 직전(윈도우 0)과 경계(윈도우 1 시작) 시각을 번갈아 사용
+                        long now = i % 2 == 0 ? period - 1 : period;
+                        if (bucket.tryConsume(now) >= 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(30, TimeUnit.SECONDS);
+            }
+            // 윈도우 1 시작 시점에는 직전 윈도우 수가 전부 반영되므로 두 윈도우 합계도 limit 이하
+            assertThat(total).isEqualTo(limit);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 거부될 때까지 같은 시각에 요청하여 허용된 수 반환
+     */
+    private static int consumeAll(RateLimitBucket bucket, long nowNanos) {
+        int admitted = 0;
+        while (bucket.tryConsume(nowNanos) >= 0) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
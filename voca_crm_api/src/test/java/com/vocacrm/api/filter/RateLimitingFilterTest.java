@@ -0,0 +1,173 @@
+package com.vocacrm.api.filter;
+
+import com.vocacrm.api.config.RateLimitConfig;
+import com.vocacrm.api.dto.AuthPrincipal;
+import com.vocacrm.api.service.AuthPrincipalCache;
+import com.vocacrm.api.service.BusinessPlacePermissionCache;
+import com.vocacrm.api.service.DistributedRateLimiter;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitingFilterTest {
+
+    private static final String API_URI = "/api/members";
+    private static final String AUTH_URI = "/api/auth/refresh";
+    private static final String IP = "10.0.0.1";
+    private static final String DEFAULT_PLACE = "bp-default";
+
+    private final String freeUserId = UUID.randomUUID().toString();
+    private final String otherFreeUserId = UUID.randomUUID().toString();
+    private final String premiumUserId = UUID.randomUUID().toString();
+
+    private RateLimitConfig config;
+    private AuthPrincipalCache authPrincipalCache;
+    private BusinessPlacePermissionCache permissionCache;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        config.setApi(new RateLimitConfig.EndpointLimit(2, 60));
+        config.setAuth(new RateLimitConfig.EndpointLimit(1, 60));
+        config.setTierMultipliers(Map.of("FREE", 1.0, "PREMIUM", 2.0));
+        config.getBusinessPlace().setEnabled(false);
+
+        DistributedRateLimiter distributedRateLimiter = mock(DistributedRateLimiter.class);
+        when(distributedRateLimiter.isEnabled()).thenReturn(false);
+
+        authPrincipalCache = mock(AuthPrincipalCache.class);
+        when(authPrincipalCache.resolve("free")).thenReturn(principal(freeUserId, "FREE"));
+        when(authPrincipalCache.resolve("other-free")).thenReturn(principal(otherFreeUserId, "FREE"));
+        when(authPrincipalCache.resolve("premium")).thenReturn(principal(premiumUserId, "PREMIUM"));
+        when(authPrincipalCache.resolve("invalid")).thenThrow(new MalformedJwtException("invalid"));
+        when(authPrincipalCache.resolve("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        permissionCache = mock(BusinessPlacePermissionCache.class);
+
+        filter = new RateLimitingFilter(config, distributedRateLimiter, authPrincipalCache, permissionCache);
+    }
+
+    @Test
+    void anonymousRequestsAreLimitedByIp() throws Exception {
+        assertThat(perform(API_URI, IP, null, null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, null, null).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = perform(API_URI, IP, null, null);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+
+        assertThat(perform(API_URI, "10.0.0.2", null, null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void invalidOrExpiredTokenFallsBackToIp() throws Exception {
+        assertThat(perform(API_URI, IP, "invalid", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "expired", null).getStatus()).isEqualTo(200);
+
+        // 익명 요청과 같은 IP 버킷
+        assertThat(perform(API_URI, IP, null, null).getStatus()).isEqualTo(429);
+        assertThat(perform(API_URI, IP, "free", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void authEndpointsAreLimitedByIpEvenWithToken() throws Exception {
+        assertThat(perform(AUTH_URI, IP, "free", null).getStatus()).isEqualTo(200);
+        assertThat(perform(AUTH_URI, IP, "other-free", null).getStatus()).isEqualTo(429);
+
+        verify(authPrincipalCache, never()).resolve(anyString());
+    }
+
+    @Test
+    void usersBehindSameIpAreIsolated() throws Exception {
+        assertThat(perform(API_URI, IP, "free", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "free", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "free", null).getStatus()).isEqualTo(429);
+
+        assertThat(perform(API_URI, IP, "other-free", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, null, null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void tierMultiplierIsApplied() throws Exception {
+        MockHttpServletResponse first = perform(API_URI, IP, "premium", null);
+        assertThat(first.getHeader("X-RateLimit-Limit")).isEqualTo("4");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform(API_URI, IP, "premium", null).getStatus()).isEqualTo(200);
+        }
+        assertThat(perform(API_URI, IP, "premium", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void spoofedBusinessPlaceHeaderFallsBackToDefaultPlace() throws Exception {
+        config.getBusinessPlace().setEnabled(true);
+        config.getBusinessPlace().setMultiplier(1.5);  // 사업장 한도 3
+        when(permissionCache.hasAccess(any(UUID.class), anyString())).thenReturn(false);
+
+        assertThat(perform(API_URI, IP, "free", "bp-other").getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "free", "bp-other").getStatus()).isEqualTo(200);
+
+        // 기본 사업장 한도 3 중 2건은 위조 헤더 요청으로 사용됨
+        assertThat(perform(API_URI, IP, "other-free", null).getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = perform(API_URI, IP, "other-free", null);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("X-RateLimit-Limit")).isEqualTo("3");
+
+        verify(permissionCache).hasAccess(UUID.fromString(freeUserId), "bp-other");
+    }
+
+    @Test
+    void businessPlaceLimitDoesNotDependOnRequesterTier() throws Exception {
+        config.getBusinessPlace().setEnabled(true);
+        config.getBusinessPlace().setMultiplier(2.0);  // 사업장 한도 4 (등급 무관)
+
+        // 등급이 다른 직원이 번갈아 요청해도 사업장 버킷은 교체되지 않음
+        assertThat(perform(API_URI, IP, "free", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "premium", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "free", null).getStatus()).isEqualTo(200);
+        assertThat(perform(API_URI, IP, "premium", null).getStatus()).isEqualTo(200);
+
+        // PREMIUM 사용자 한도(4)는 남았지만 사업장 합계(4) 초과
+        MockHttpServletResponse rejected = perform(API_URI, IP, "premium", null);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("X-RateLimit-Limit")).isEqualTo("4");
+    }
+
+    private MockHttpServletResponse perform(String uri, String ip, String token, String businessPlaceId)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(ip);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        if (businessPlaceId != null) {
+            request.addHeader("X-Business-Place-Id", businessPlaceId);
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static AuthPrincipal principal(String userId, String tier) {
+        return new AuthPrincipal(userId, "user", null, null, DEFAULT_PLACE, false, tier,
+                Instant.now().plusSeconds(3600));
+    }
+}
@@ -0,0 +1,199 @@
+package com.vocacrm.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DeepL 배치 전송 테스트 (로컬 HTTP 스텁: 텍스트마다 "EN(원문)" 반환, "FAIL"이 포함된 요청은 500)
+ */
+class DeepLTranslationServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 스텁이 받은 DeepL 요청별 텍스트 목록
+     */
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private Scheduler scheduler;
+    private TranslationCache translationCache;
+    private DeepLTranslationService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/translate", this::handleTranslate);
+        server.start();
+
+        scheduler = Schedulers.newParallel("deepl-test", 2);
+        translationCache = mock(TranslationCache.class);
+
+        UpstreamResilience upstreamResilience = mock(UpstreamResilience.class);
+        when(upstreamResilience.call(anyString(), any()))
+                .thenAnswer(invocation -> Mono.defer(invocation.<Supplier<Mono<String>>>getArgument(1)));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TranslationPreprocessor preprocessor = new TranslationPreprocessor(meterRegistry);
+        ReflectionTestUtils.setField(preprocessor, "enabled", false);
+        preprocessor.init();
+
+        service = new DeepLTranslationService(WebClient.create(), objectMapper, translationCache, scheduler,
+                upstreamResilience, meterRegistry, preprocessor);
+        ReflectionTestUtils.setField(service, "apiKey", "test");
+        ReflectionTestUtils.setField(service, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/translate");
+        ReflectionTestUtils.setField(service, "timeout", 5000);
+        ReflectionTestUtils.setField(service, "batchEnabled", true);
+        ReflectionTestUtils.setField(service, "batchLingerMs", 50L);
+        ReflectionTestUtils.setField(service, "batchMaxSize", 3);
+        ReflectionTestUtils.setField(service, "batchMaxChars", 5000);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        scheduler.dispose();
+    }
+
+    @Test
+    void deliversEachResultToItsCallerInRequestOrder() {
+        List<String> results = Mono.zip(
+                        service.requestTranslation("하나"),
+                        service.requestTranslation("둘"),
+                        service.requestTranslation("셋"))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(TIMEOUT);
+
+        assertThat(results).containsExactly("EN(하나)", "EN(둘)", "EN(셋)");
+        assertThat(requests).containsExactly(List.of("하나", "둘", "셋"));
+        verify(translationCache).put("둘", "EN(둘)");
+    }
+
+    @Test
+    void sharesOneEntryForDuplicateTexts() {
+        List<String> results = Mono.zip(
+                        service.requestTranslation("하나"),
+                        service.requestTranslation("둘"),
+                        service.requestTranslation("하나"))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(TIMEOUT);
+
+        assertThat(results).containsExactly("EN(하나)", "EN(둘)", "EN(하나)");
+        // 중복 텍스트는 한 항목으로 전송, 최대 건수(3) 미달이므로 linger 후 전송
+        assertThat(requests).containsExactly(List.of("하나", "둘"));
+    }
+
+    @Test
+    void splitsBatchAtMaxSize() {
+        List<Mono<String>> calls = new ArrayList<>();
+        for (String text : List.of("일", "이", "삼", "사", "오")) {
+            calls.add(service.requestTranslation(text));
+        }
+
+        List<String> results = Mono.zip(calls, values -> {
+            List<String> translated = new ArrayList<>();
+            for (Object value : values) {
+                translated.add((String) value);
+            }
+            return translated;
+        }).block(TIMEOUT);
+
+        assertThat(results).containsExactly("EN(일)", "EN(이)", "EN(삼)", "EN(사)", "EN(오)");
+        assertThat(requests).containsExactlyInAnyOrder(List.of("일", "이", "삼"), List.of("사", "오"));
+    }
+
+    @Test
+    void splitsBatchBeforeExceedingMaxChars() {
+        ReflectionTestUtils.setField(service, "batchMaxChars", 10);
+
+        List<String> results = Mono.zip(
+                        service.requestTranslation("가나다라"),
+                        service.requestTranslation("마바사아"),
+                        service.requestTranslation("자차카타"))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(TIMEOUT);
+
+        assertThat(results).containsExactly("EN(가나다라)", "EN(마바사아)", "EN(자차카타)");
+        assertThat(requests).containsExactlyInAnyOrder(List.of("가나다라", "마바사아"), List.of("자차카타"));
+    }
+
+    @Test
+    void propagatesFailureToEveryWaiter() {
+        List<String> results = Mono.zip(
+                        service.requestTranslation("하나"),
+                        service.requestTranslation("FAIL 둘"),
+                        service.requestTranslation("하나"))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(TIMEOUT);
+
+        // 실패하면 모든 호출자가 원문을 받고 캐시에 저장하지 않음
+        assertThat(results).containsExactly("하나", "FAIL 둘", "하나");
+        assertThat(requests).containsExactly(List.of("하나", "FAIL 둘"));
+        verify(translationCache, never()).put(anyString(), anyString());
+    }
+
+    private void handleTranslate(HttpExchange exchange) throws IOException {
+        try {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            List<String> texts = new ArrayList<>();
+            request.path("text").forEach(text -> texts.add(text.asText()));
+            requests.add(List.copyOf(texts));
+
+            if (texts.stream().anyMatch(text -> text.contains("FAIL"))) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            ObjectNode body = objectMapper.createObjectNode();
+            ArrayNode translations = body.putArray("translations");
+            for (String text : texts) {
+                translations.addObject()
+                        .put("detected_source_language", "KO")
+                        .put("text", "EN(" + text + ")");
+            }
+
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
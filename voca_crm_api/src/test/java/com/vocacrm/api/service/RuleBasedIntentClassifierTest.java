@@ -0,0 +1,84 @@
+package com.vocacrm.api.service;
+
+import com.vocacrm.api.dto.AiAnalysisResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fast-path 규칙 검증 (voice/fast-path-corpus.tsv의 문장마다 실행)
+ */
+class RuleBasedIntentClassifierTest {
+
+    private static final String CORPUS_LOCATION = "voice/fast-path-corpus.tsv";
+
+    private RuleBasedIntentClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        classifier = new RuleBasedIntentClassifier(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(classifier, "enabled", true);
+        ReflectionTestUtils.setField(classifier, "minConfidence", 0.8);
+        classifier.init();
+    }
+
+    /**
+     * 형식: 문장 [TAB] 기대 결과(CATEGORY/ACTION, 규칙 미적용은 -) [TAB] 기대 파라미터(key=value,...)
+     */
+    static Stream<Arguments> corpus() throws IOException {
+        ClassPathResource resource = new ClassPathResource(CORPUS_LOCATION);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> line.split("\t"))
+                    .map(columns -> Arguments.of(columns[0],
+                            columns.length > 1 ? columns[1].trim() : "-",
+                            columns.length > 2 ? columns[2].trim() : ""))
+                    .toList()
+                    .stream();
+        }
+    }
+
+    @ParameterizedTest(name = "{0} -> {1} {2}")
+    @MethodSource("corpus")
+    void matchesCorpus(String utterance, String expected, String expectedParams) {
+        Optional<AiAnalysisResult> actual = classifier.classify(utterance);
+
+        String actualLabel = actual.map(result -> result.getCategory() + "/" + result.getAction()).orElse("-");
+        assertThat(actualLabel).isEqualTo(expected);
+
+        if (actual.isPresent() && !expectedParams.isEmpty()) {
+            for (String pair : expectedParams.split(",")) {
+                String[] keyValue = pair.split("=", 2);
+                String key = keyValue[0].trim();
+                String expectedValue = keyValue.length > 1 ? keyValue[1].trim() : "";
+
+                assertThat(parameter(actual.get(), key)).as(key).isEqualTo(expectedValue);
+            }
+        }
+    }
+
+    /**
+     * 검색 조건 또는 파라미터 값 (문자열 비교)
+     */
+    private static String parameter(AiAnalysisResult result, String key) {
+        Object value = result.getSearchField(key);
+        if (value == null && result.getParameters() != null) {
+            value = result.getParameters().get(key);
+        }
+        return value == null ? null : String.valueOf(value);
+    }
+}
@@ -0,0 +1,110 @@
+package com.vocacrm.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranslationPreprocessorTest {
+
+    private TranslationPreprocessor preprocessor;
+
+    @BeforeEach
+    void setUp() {
+        preprocessor = new TranslationPreprocessor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(preprocessor, "enabled", true);
+        ReflectionTestUtils.setField(preprocessor, "minHangulRatio", 0.15);
+        preprocessor.init();
+    }
+
+    @Test
+    void protectsHonorificName() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("김철수 회원 찾아줘");
+
+        assertThat(prepared.masked()).isEqualTo("<k>0</k> 회원 찾아줘");
+        assertThat(prepared.replacements()).containsExactly("김철수");
+    }
+
+    @Test
+    void protectsNameEndingWithEunWhenStartingWithSurname() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("김지은 고객 메모 보여줘");
+
+        assertThat(prepared.replacements()).containsExactly("김지은", "memo");
+    }
+
+    @Test
+    void doesNotMaskPredicateBeforeHonorific() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("오늘 방문한 회원 보여줘");
+
+        // "방문한"은 이름이 아니므로 용어집의 "방문"이 적용됨
+        assertThat(prepared.masked()).isEqualTo("오늘 <k>0</k>한 회원 보여줘");
+        assertThat(prepared.replacements()).containsExactly("visit");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"신규 회원 보여줘", "삭제된 회원 보여줘", "탈퇴한 회원 목록", "예약한 고객 알려줘", "오래된 회원 정리해줘"})
+    void doesNotMaskNonNameModifiers(String text) {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare(text);
+
+        assertThat(prepared.replacements()).doesNotContain(text.substring(0, text.indexOf(' ')));
+        assertThat(prepared.bypass()).isFalse();
+    }
+
+    @Test
+    void doesNotMaskLeadingPredicate() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("삭제된 메모 보여줘");
+
+        assertThat(prepared.replacements()).containsExactly("memo");
+    }
+
+    @Test
+    void masksMemberNumberAndPhone() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("1234번 회원 전화번호 010-1234-5678로 바꿔줘");
+
+        assertThat(prepared.replacements()).containsExactly("No. 1234", "phone number", "010-1234-5678");
+    }
+
+    @Test
+    void restoreReplacesPlaceholdersAndUnescapes() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("김철수 회원 메모 A&B 추가해줘");
+
+        assertThat(prepared.masked()).contains("A&amp;B");
+        assertThat(prepared.restore("Add <k>1</k> A&amp;B to member <k>0</k>"))
+                .isEqualTo("Add memo A&B to member 김철수");
+    }
+
+    @Test
+    void restoreUnescapesWithoutPlaceholders() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("A&B <중요> 내용 보여줘");
+
+        assertThat(prepared.replacements()).isEmpty();
+        assertThat(prepared.masked()).isEqualTo("A&amp;B &lt;중요&gt; 내용 보여줘");
+        assertThat(prepared.restore("Show A&amp;B &lt;important&gt; content"))
+                .isEqualTo("Show A&B <important> content");
+    }
+
+    @Test
+    void bypassesWhenOnlyProtectedTermsRemain() {
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("김철수 체크인");
+
+        assertThat(prepared.bypass()).isTrue();
+        assertThat(prepared.local()).isEqualTo("김철수 check in");
+    }
+
+    @Test
+    void disabledPassesTextThrough() {
+        ReflectionTestUtils.setField(preprocessor, "enabled", false);
+
+        TranslationPreprocessor.Prepared prepared = preprocessor.prepare("김철수 회원 찾아줘");
+
+        assertThat(prepared.masked()).isEqualTo("김철수 회원 찾아줘");
+        assertThat(prepared.replacements()).isEqualTo(List.of());
+        assertThat(prepared.restore("Find member Kim")).isEqualTo("Find member Kim");
+    }
+}
@@ -0,0 +1,72 @@
+package com.vocacrm.api.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vocacrm.api.dto.AiAnalysisResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiResponseJsonExtractorTest {
+
+    private static final String RESULT = "{\"category\":\"MEMO\",\"action\":\"GET_LATEST\","
+            + "\"parameters\":{\"searchCriteria\":{\"memberNumber\":\"1234\"}}}";
+
+    private final AiResponseJsonExtractor extractor = new AiResponseJsonExtractor(new ObjectMapper());
+
+    @Test
+    void extractsPlainObject() {
+        AiAnalysisResult result = extractor.extract(RESULT);
+
+        assertThat(result.getCategory()).isEqualTo("MEMO");
+        assertThat(result.getAction()).isEqualTo("GET_LATEST");
+        assertThat(result.getSearchField("memberNumber")).isEqualTo("1234");
+    }
+
+    @Test
+    void extractsFromCodeBlockAndProse() {
+        assertThat(extractor.extract("```json\n" + RESULT + "\n```").getCategory()).isEqualTo("MEMO");
+        assertThat(extractor.extract("Sure! Here it is:\n" + RESULT + "\nAnything else?").getCategory())
+                .isEqualTo("MEMO");
+    }
+
+    @Test
+    void skipsObjectsWithoutCategory() {
+        AiAnalysisResult result = extractor.extract("Input format {\"text\":\"...\"}, output: " + RESULT);
+
+        assertThat(result.getCategory()).isEqualTo("MEMO");
+    }
+
+    @Test
+    void findsCategoryInsideWrapperObject() {
+        AiAnalysisResult result = extractor.extract(
+                "{\"response\":{\"category\":\"MEMBER\",\"action\":\"SEARCH\",\"parameters\":{}},\"done\":true}");
+
+        assertThat(result.getCategory()).isEqualTo("MEMBER");
+        assertThat(result.getAction()).isEqualTo("SEARCH");
+    }
+
+    @Test
+    void recoversCompleteObjectInsideTruncatedObject() {
+        AiAnalysisResult result = extractor.extract(
+                "{\"category\":\"MEMO\",\"parameters\":{\"category\":\"MEMBER\",\"action\":\"SEARCH\"}");
+
+        assertThat(result.getCategory()).isEqualTo("MEMBER");
+    }
+
+    @Test
+    void allowsUnescapedNewlinesInStrings() {
+        AiAnalysisResult result = extractor.extract(
+                "{\"category\":\"MEMO\",\"action\":\"CREATE\",\"parameters\":{\"content\":\"첫 줄\n둘째 줄\"}}");
+
+        assertThat(result.getParameters().get("content")).isEqualTo("첫 줄\n둘째 줄");
+    }
+
+    @Test
+    void returnsNullWithoutValidObject() {
+        assertThat(extractor.extract(null)).isNull();
+        assertThat(extractor.extract("")).isNull();
+        assertThat(extractor.extract("명령을 이해하지 못했습니다.")).isNull();
+        assertThat(extractor.extract("{\"text\":\"no category\"}")).isNull();
+        assertThat(extractor.extract("{\"category\":\"MEMO\"")).isNull();
+    }
+}
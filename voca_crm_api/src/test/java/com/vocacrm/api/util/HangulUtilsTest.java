@@ -0,0 +1,71 @@
+package com.vocacrm.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulUtilsTest {
+
+    @Test
+    void normalizeRemovesWhitespaceAndLowercases() {
+        assertThat(HangulUtils.normalize(" 김 철수 ABC\t")).isEqualTo("김철수abc");
+        assertThat(HangulUtils.normalize(null)).isEqualTo("");
+    }
+
+    @Test
+    void choseongExtractsInitialConsonants() {
+        assertThat(HangulUtils.choseong("김철수")).isEqualTo("ㄱㅊㅅ");
+        assertThat(HangulUtils.choseong("빵집")).isEqualTo("ㅃㅈ");
+        // 한글 음절이 아닌 문자는 그대로 유지
+        assertThat(HangulUtils.choseong("A동 3호")).isEqualTo("Aㄷ 3ㅎ");
+    }
+
+    @Test
+    void decomposeSplitsSyllablesIntoJamo() {
+        assertThat(HangulUtils.decompose("김철수")).isEqualTo("ㄱㅣㅁㅊㅓㄹㅅㅜ");
+        // 겹받침, 첫/마지막 음절
+        assertThat(HangulUtils.decompose("닭")).isEqualTo("ㄷㅏㄺ");
+        assertThat(HangulUtils.decompose("가힣")).isEqualTo("ㄱㅏㅎㅣㅎ");
+        assertThat(HangulUtils.decompose("ㄱa1")).isEqualTo("ㄱa1");
+    }
+
+    @Test
+    void isChoseongOnly() {
+        assertThat(HangulUtils.isChoseongOnly("ㄱㅊㅅ")).isTrue();
+        assertThat(HangulUtils.isChoseongOnly("ㄲㅆ")).isTrue();
+        assertThat(HangulUtils.isChoseongOnly("ㄱ철ㅅ")).isFalse();
+        // 모음, 겹받침 자모는 초성이 아님
+        assertThat(HangulUtils.isChoseongOnly("ㄱㅏ")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly("ㄳ")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly("")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly(null)).isFalse();
+    }
+
+    @Test
+    void editDistanceOnJamoTreatsRecognitionErrorsAsClose() {
+        String expected = HangulUtils.decompose("김철수");
+
+        assertThat(HangulUtils.editDistance(expected, HangulUtils.decompose("김철수"), 2)).isEqualTo(0);
+        assertThat(HangulUtils.editDistance(expected, HangulUtils.decompose("김철쑤"), 2)).isEqualTo(1);
+        assertThat(HangulUtils.editDistance(expected, HangulUtils.decompose("김쳘수"), 2)).isEqualTo(1);
+        assertThat(HangulUtils.editDistance(expected, HangulUtils.decompose("김철"), 2)).isEqualTo(2);
+    }
+
+    @Test
+    void editDistanceIsCappedAtMaxDistancePlusOne() {
+        assertThat(HangulUtils.editDistance("kitten", "sitting", 5)).isEqualTo(3);
+        assertThat(HangulUtils.editDistance("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(HangulUtils.editDistance("kitten", "sitting", 1)).isEqualTo(2);
+        // 길이 차이만으로 상한 초과
+        assertThat(HangulUtils.editDistance("a", "abcdef", 2)).isEqualTo(3);
+        assertThat(HangulUtils.editDistance("", "ab", 2)).isEqualTo(2);
+    }
+
+    @Test
+    void digitsOnlyKeepsAsciiDigits() {
+        assertThat(HangulUtils.digitsOnly("010-1234-5678")).isEqualTo("01012345678");
+        assertThat(HangulUtils.digitsOnly("+82 10 1234 5678")).isEqualTo("821012345678");
+        assertThat(HangulUtils.digitsOnly("없음")).isEqualTo("");
+        assertThat(HangulUtils.digitsOnly(null)).isEqualTo("");
+    }
+}
@@ -0,0 +1,70 @@
+package com.vocacrm.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonObjectScannerTest {
+
+    @Test
+    void returnsObjectWhenCompletedAcrossChunks() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append("Here is the result: {\"category\":")).isNull();
+        assertThat(scanner.append("\"MEMO\",\"parameters\":{\"limit\":")).isNull();
+        assertThat(scanner.append("1}} trailing")).isEqualTo("{\"category\":\"MEMO\",\"parameters\":{\"limit\":1}}");
+    }
+
+    @Test
+    void ignoresBracesInsideStrings() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append("{\"content\":\"}{ not braces {\"")).isNull();
+        assertThat(scanner.append("}")).isEqualTo("{\"content\":\"}{ not braces {\"}");
+    }
+
+    @Test
+    void handlesEscapedQuotesAndBackslashes() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append("{\"a\":\"say \\\"}\\\" ok\",\"b\":\"c:\\\\\"}"))
+                .isEqualTo("{\"a\":\"say \\\"}\\\" ok\",\"b\":\"c:\\\\\"}");
+    }
+
+    @Test
+    void handlesEscapeSplitAcrossChunks() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append("{\"a\":\"x\\")).isNull();
+        assertThat(scanner.append("\"}")).isNull();
+        assertThat(scanner.append("\"}")).isEqualTo("{\"a\":\"x\\\"}\"}");
+    }
+
+    @Test
+    void ignoresCodeBlockMarkersAndProse() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append("```json\n")).isNull();
+        assertThat(scanner.append("{\"category\":\"VISIT\"}\n```")).isEqualTo("{\"category\":\"VISIT\"}");
+    }
+
+    @Test
+    void returnsMultipleObjectsFromOneChunkInOrder() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append("{\"a\":1} text {\"b\":{\"c\":2}}")).isEqualTo("{\"a\":1}");
+        assertThat(scanner.scan()).isEqualTo("{\"b\":{\"c\":2}}");
+        assertThat(scanner.scan()).isNull();
+    }
+
+    @Test
+    void ignoresEmptyChunksAndKeepsBufferedText() {
+        StreamingJsonObjectScanner scanner = new StreamingJsonObjectScanner();
+
+        assertThat(scanner.append(null)).isNull();
+        assertThat(scanner.append("")).isNull();
+        assertThat(scanner.append("no json {\"a\":")).isNull();
+
+        assertThat(scanner.getBufferedText()).isEqualTo("no json {\"a\":");
+    }
+}